@@ -0,0 +1,141 @@
+package com.studyplatform;
+
+import com.studyplatform.controllers.AsyncController;
+import com.studyplatform.dao.SchemaMigrator;
+
+import javax.swing.*;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Starts the app in phases so the window shows before any query runs:
+//   database    - boot Derby and bring the schema up to date, off the EDT
+//   controllers - build every controller in parallel once the database is up
+//   views       - build a tab's view (and load its data) the first time the tab is selected
+// Each phase prints how long it took, measured from when the orchestrator was created
+final class StartupOrchestrator {
+    private final long startNanos = System.nanoTime();
+    private final CompletableFuture<Void> database;
+    private final List<CompletableFuture<?>> controllers = new ArrayList<>();
+    private final List<LazyTab> tabs = new ArrayList<>();
+
+    StartupOrchestrator() {
+        database = AsyncController.run(() -> timedRun("database", this::bootDatabase));
+        database.exceptionally(this::databaseFailed);
+    }
+
+    // Build a controller in the background once the database is up
+    <C> CompletableFuture<C> controller(String name, Supplier<C> constructor) {
+        CompletableFuture<C> controller = database.thenCompose(ignored ->
+                AsyncController.supply(() -> timed("controller " + name, constructor::get)));
+        controllers.add(controller);
+        return controller;
+    }
+
+    // Add a tab that shows a placeholder until it is first selected
+    <C> void addTab(JTabbedPane tabbedPane, String title, CompletableFuture<C> controller, Function<C, JComponent> view) {
+        // thenApply runs on the EDT: the controller future completes there, and load() is called there
+        tabs.add(new LazyTab(tabbedPane, tabbedPane.getTabCount(), title, () -> controller.thenApply(view)));
+        tabbedPane.addTab(title, new JLabel("Loading " + title + "...", SwingConstants.CENTER));
+    }
+
+    // Load the selected tab now and every other tab when it is first selected. Call on the EDT after the tabs are added
+    void start(JTabbedPane tabbedPane) {
+        tabbedPane.addChangeListener(e -> loadTab(tabbedPane.getSelectedIndex()));
+        loadTab(tabbedPane.getSelectedIndex());
+        CompletableFuture.allOf(controllers.toArray(new CompletableFuture<?>[0]))
+                .thenRun(() -> record("all controllers", startNanos))
+                .exceptionally(AsyncController::logFailure);
+    }
+
+    void frameShown() {
+        record("frame shown", startNanos);
+    }
+
+    private void loadTab(int index) {
+        for (LazyTab tab : tabs) {
+            if (tab.index == index) {
+                tab.load();
+            }
+        }
+    }
+
+    // The first connection boots Derby, then the migrator runs any DDL the schema is missing.
+    // A failed schema migration is reported and the controllers try again, as they always have
+    private void bootDatabase() throws SQLException {
+        try {
+            SchemaMigrator.migrate();
+        } catch (ExceptionInInitializerError e) {
+            // DatabaseUtil could not load the driver, start the server or read its config
+            throw new SQLException("Could not open the database: " + e.getCause(), e.getCause());
+        } catch (SQLException e) {
+            System.err.println("Error migrating database schema: " + e.getMessage());
+        }
+    }
+
+    private Void databaseFailed(Throwable e) {
+        AsyncController.logFailure(e);
+        JOptionPane.showMessageDialog(null, "Could not open the database. See the log for details.",
+                "Study Management Platform", JOptionPane.ERROR_MESSAGE);
+        System.exit(1);
+        return null;
+    }
+
+    private <T> T timed(String phase, AsyncController.Call<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            record(phase, start);
+        }
+    }
+
+    private void timedRun(String phase, AsyncController.Action action) throws Exception {
+        timed(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void record(String phase, long start) {
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        long sinceStart = (System.nanoTime() - startNanos) / 1_000_000;
+        System.out.println("Startup " + phase + ": " + millis + " ms (at " + sinceStart + " ms)");
+    }
+
+    private final class LazyTab {
+        private final JTabbedPane tabbedPane;
+        private final int index;
+        private final String title;
+        private final Supplier<CompletableFuture<JComponent>> view;
+        private boolean loading;
+
+        private LazyTab(JTabbedPane tabbedPane, int index, String title, Supplier<CompletableFuture<JComponent>> view) {
+            this.tabbedPane = tabbedPane;
+            this.index = index;
+            this.title = title;
+            this.view = view;
+        }
+
+        // Build the view once its controller is ready. Only called on the EDT
+        private void load() {
+            if (loading) {
+                return;
+            }
+            loading = true;
+            long start = System.nanoTime();
+            view.get().whenComplete((component, ex) -> {
+                if (ex != null) {
+                    tabbedPane.setComponentAt(index, new JLabel("Could not load " + title + ".", SwingConstants.CENTER));
+                    AsyncController.logFailure(ex);
+                    return;
+                }
+                tabbedPane.setComponentAt(index, component);
+                record("view " + title, start);
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.studyplatform;
+
+import com.studyplatform.controllers.TaskController;
+import com.studyplatform.controllers.GroupController;
+import com.studyplatform.controllers.StudyPlanController;
+import com.studyplatform.controllers.TutorController;
+import com.studyplatform.controllers.NotificationController;
+
+import com.studyplatform.views.TaskView;
+import com.studyplatform.views.GroupView;
+import com.studyplatform.views.StudyPlanView;
+import com.studyplatform.views.TutorView;
+import com.studyplatform.views.NotificationView;
+
+import javax.swing.*;
+import java.util.concurrent.CompletableFuture;
+
+public class StudyPlatformApp extends JFrame {
+    // Boots the database and controllers in the background and builds each view on first use
+    private final StartupOrchestrator startup;
+
+    public StudyPlatformApp() {
+        startup = new StartupOrchestrator();
+
+        // Initialize controllers, all at once off the EDT
+        CompletableFuture<TaskController> taskController = startup.controller("tasks", TaskController::new);
+        CompletableFuture<GroupController> groupController = startup.controller("groups", GroupController::new);
+        CompletableFuture<StudyPlanController> studyPlanController = startup.controller("study plans", StudyPlanController::new);
+        CompletableFuture<TutorController> tutorController = startup.controller("tutors", TutorController::new);
+        // Built even if its tab is never opened, it schedules the reminders
+        CompletableFuture<NotificationController> notificationController =
+                startup.controller("notifications", NotificationController::new);
+
+        // Setup main frame
+        setTitle("Study Management Platform");
+        setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        setSize(800, 600);
+
+        // Create tabbed pane. Each tab shows a placeholder until it is first selected
+        JTabbedPane tabbedPane = new JTabbedPane();
+        startup.addTab(tabbedPane, "Task Manager", taskController, TaskView::new);
+        startup.addTab(tabbedPane, "Group Management", groupController, GroupView::new);
+        startup.addTab(tabbedPane, "Study Plans", studyPlanController, StudyPlanView::new);
+        startup.addTab(tabbedPane, "Tutoring", tutorController, TutorView::new);
+        startup.addTab(tabbedPane, "Notifications", notificationController, NotificationView::new);
+        startup.start(tabbedPane);
+
+        // Add tabbed pane to frame
+        getContentPane().add(tabbedPane);
+
+        // Center the frame on screen
+        setLocationRelativeTo(null);
+    }
+
+    public static void main(String[] args) {
+        // Ensure GUI is created on Event Dispatch Thread
+        SwingUtilities.invokeLater(() -> {
+            try {
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+
+            // Create and display the application
+            StudyPlatformApp app = new StudyPlatformApp();
+            app.setVisible(true);
+            app.startup.frameShown();
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package com.studyplatform.controllers;
+
+import javax.swing.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// runs controller calls off the swing event dispatch thread.
+// each call gets its own virtual thread, so a slow query never blocks the ui or another call.
+// the returned future is completed on the edt, so thenAccept/whenComplete callbacks added right
+// away can touch swing components. it is always completed, errors (e.g. a class that failed to
+// initialize) fail it like exceptions do
+public final class AsyncController {
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    // a controller call that returns a value. checked exceptions (e.g. ParseException) fail the future
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private AsyncController() {}
+
+    public static <T> CompletableFuture<T> supply(Call<T> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        EXECUTOR.execute(() -> {
+            try {
+                T value = call.call();
+                SwingUtilities.invokeLater(() -> result.complete(value));
+            } catch (Throwable e) {
+                SwingUtilities.invokeLater(() -> result.completeExceptionally(e));
+            }
+        });
+        return result;
+    }
+
+    public static CompletableFuture<Void> run(Action action) {
+        return supply(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    // run ui code on the edt, right away if already there
+    public static void onEdt(Runnable runnable) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            runnable.run();
+        } else {
+            SwingUtilities.invokeLater(runnable);
+        }
+    }
+
+    // for exceptionally(...) on calls that have no error handling of their own.
+    // a cancelled call is a load that was replaced by a newer one, not an error
+    public static <T> T logFailure(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (!(cause instanceof CancellationException)) {
+            System.err.println("Background call failed: " + cause);
+            cause.printStackTrace();
+        }
+        return null;
+    }
+}
@@ -1,9 +1,13 @@
 package com.studyplatform.controllers;
 
 // group controller
+import com.studyplatform.dao.CacheStats;
+import com.studyplatform.dao.CachingDAO;
 import com.studyplatform.dao.GroupDAO;
+import com.studyplatform.dao.SchemaMigrator;
 import com.studyplatform.models.Group;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -11,14 +15,23 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 public class GroupController {
+    // entities and keys held by each cache map
+    private static final int CACHE_SIZE = 1000;
+
     private GroupDAO groupDAO;
+    // every group action looks the group up by name first, so those lookups are cached.
+    // member, file and meeting writes go straight to the dao and evict the group
+    private CachingDAO<Group> groupCache;
+    private CachingDAO.Index<Group, String> groupsByName;
 
     public GroupController() {
         this.groupDAO = new GroupDAO();
+        this.groupCache = new CachingDAO<>("groups", groupDAO, Group::getId, Group::new, CACHE_SIZE);
+        this.groupsByName = groupCache.addIndex(Group::getName, name -> CachingDAO.single(groupDAO.findByName(name)));
         try {
-            this.groupDAO.createTable();
+            SchemaMigrator.migrate();
         } catch (SQLException e) {
-            System.err.println("Error creating groups table: " + e.getMessage());
+            System.err.println("Error migrating database schema: " + e.getMessage());
         }
     }
 
@@ -30,21 +43,15 @@ public class GroupController {
         }
 
         try {
-            // get all groups from database
-            List<Group> existingGroups = groupDAO.findAll();
             // check if group already exist
-            boolean groupExists = existingGroups.stream()
-                    .anyMatch(g -> g.getName().equals(groupName));
-            
-            // throw error if group already exist
-            if (groupExists) {
+            if (groupsByName.findOne(groupName) != null) {
                 throw new IllegalStateException("Group already exists.");
             }
 
             // make new group with group name
             Group group = new Group(groupName);
             // try to add group to database
-            groupDAO.create(group);
+            groupCache.create(group);
             // return group if success
             return group;
         } catch (SQLException e) {
@@ -69,7 +76,7 @@ public class GroupController {
                 throw new IllegalStateException("Group does not exist.");
             }
 
-            groupDAO.delete(group.getId());
+            groupCache.delete(group.getId());
         } catch (SQLException e) {
             System.err.println("Error deleting group: " + e.getMessage());
         }
@@ -78,11 +85,8 @@ public class GroupController {
     // get group
     public Group getGroup(String groupName) {
         try {
-            // get all groups from database
-            return groupDAO.findAll().stream()
-                    .filter(g -> g.getName().equals(groupName))
-                    .findFirst()
-                    .orElse(null);
+            // look up group by name
+            return groupsByName.findOne(groupName);
         } catch (SQLException e) {
             System.err.println("Error finding group: " + e.getMessage());
             return null;
@@ -96,10 +100,9 @@ public class GroupController {
             Group group = getGroup(groupName);
             // check if group exist
             if (group != null) {
-                // add member to group
-                group.addMember(memberName);
-                // update group in database
-                groupDAO.update(group);
+                // add one member row
+                groupDAO.addMember(group.getId(), memberName);
+                groupCache.evict(group.getId());
             }
         } catch (SQLException e) {
             System.err.println("Error adding member to group: " + e.getMessage());
@@ -113,9 +116,9 @@ public class GroupController {
             Group group = getGroup(groupName);
             // check if group exist
             if (group != null) {
-                // remove member from group
-                group.removeMember(memberName);
-                groupDAO.update(group);
+                // remove one member row
+                groupDAO.removeMember(group.getId(), memberName);
+                groupCache.evict(group.getId());
             }
         } catch (SQLException e) {
             System.err.println("Error removing member from group: " + e.getMessage());
@@ -129,10 +132,9 @@ public class GroupController {
             Group group = getGroup(groupName);
             // check if group exist
             if (group != null) {
-                // upload file to group
-                group.uploadFile(fileName);
-                // update group in database
-                groupDAO.update(group);
+                // add one file row
+                groupDAO.addFile(group.getId(), fileName);
+                groupCache.evict(group.getId());
             }
         } catch (SQLException e) {
             System.err.println("Error uploading file to group: " + e.getMessage());
@@ -147,20 +149,29 @@ public class GroupController {
             // check if group exist
             if (group != null) {
                 // schedule meeting
-                group.setMeetingTime(meetingTime);
-                // update group in database
-                groupDAO.update(group);
+                groupDAO.updateMeetingTime(group.getId(), meetingTime);
+                groupCache.evict(group.getId());
             }
         } catch (SQLException e) {
             System.err.println("Error scheduling meeting: " + e.getMessage());
         }
     }
 
+    // get groups that member is in
+    public List<Group> getGroupsForMember(String memberName) {
+        try {
+            return groupDAO.findGroupsByMember(memberName);
+        } catch (SQLException e) {
+            System.err.println("Error retrieving groups for member: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
     // get all groups
     public Map<String, Group> getAllGroups() {
         try {
             // get all groups from database
-            List<Group> groups = groupDAO.findAll();
+            List<Group> groups = groupCache.findAll();
             // return map of groups
             return groups.stream()
                     .collect(Collectors.toMap(Group::getName, g -> g));
@@ -169,4 +180,9 @@ public class GroupController {
             return new HashMap<>();
         }
     }
+
+    // cache metrics
+    public CacheStats getCacheStats() {
+        return groupCache.getStats();
+    }
 }
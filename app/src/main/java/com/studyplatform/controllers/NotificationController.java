@@ -0,0 +1,164 @@
+package com.studyplatform.controllers;
+
+import com.studyplatform.models.Notification;
+import com.studyplatform.dao.NotificationDAO;
+import com.studyplatform.dao.TaskDAO;
+import com.studyplatform.dao.TutorDAO;
+import com.studyplatform.dao.StudyPlanDAO;
+import com.studyplatform.dao.SchemaMigrator;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class NotificationController {
+    private NotificationDAO notificationDAO;
+    private TaskDAO taskDAO;
+    private TutorDAO tutorDAO;
+    private StudyPlanDAO studyPlanDAO;
+    private ReminderScheduler reminderScheduler;
+    private NotificationRetention retention;
+
+    public NotificationController() {
+        this.notificationDAO = new NotificationDAO();
+        this.taskDAO = new TaskDAO();
+        this.tutorDAO = new TutorDAO();
+        this.studyPlanDAO = new StudyPlanDAO();
+        try {
+            SchemaMigrator.migrate();
+        } catch (SQLException e) {
+            System.err.println("Error migrating database schema: " + e.getMessage());
+        }
+
+        // reminders fire when their due day starts instead of polling the tables every few seconds
+        reminderScheduler = new ReminderScheduler(taskDAO, tutorDAO, studyPlanDAO,
+                reminder -> createNotificationIfAbsent(reminder.title(), reminder.description(), reminder.dedupKey()));
+        reminderScheduler.start();
+
+        // deleted and old read notifications move to the archive table in the background
+        retention = new NotificationRetention(notificationDAO);
+        retention.start();
+    }
+
+    public void shutdown() {
+        reminderScheduler.stop();
+        retention.stop();
+    }
+
+    public Notification createNotification(String title, String description) {
+        try {
+            Notification notification = new Notification(title, description);
+            notificationDAO.create(notification);
+            System.out.println("Created Notification: " + title + " - " + description);
+            return notification;
+        } catch (SQLException e) {
+            System.err.println("Error creating notification: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // create a reminder once per dedup key. return null if it already existed or could not be created
+    public Notification createNotificationIfAbsent(String title, String description, String dedupKey) {
+        try {
+            Notification notification = new Notification(title, description);
+            notification.setDedupKey(dedupKey);
+            if (!notificationDAO.createIfAbsent(notification)) {
+                return null;
+            }
+            System.out.println("Created Notification: " + title + " - " + description);
+            return notification;
+        } catch (SQLException e) {
+            System.err.println("Error creating notification: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public List<Notification> getAllNotifications() {
+        try {
+            return notificationDAO.findAll();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving notifications: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // notifications that are not deleted, newest first
+    public List<Notification> getActiveNotifications() {
+        return getActiveNotifications(Integer.MAX_VALUE, 0);
+    }
+
+    public List<Notification> getActiveNotifications(int limit, int offset) {
+        try {
+            return notificationDAO.findActive(limit, offset);
+        } catch (SQLException e) {
+            System.err.println("Error retrieving notifications: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // next page of the inbox after the last notification already shown, or the first page when last is null
+    public List<Notification> getActiveNotificationsAfter(Notification last, int limit) {
+        try {
+            if (last == null) {
+                return notificationDAO.findActivePage(limit);
+            }
+            return notificationDAO.findActivePage(last.getTimestamp(), last.getId(), limit);
+        } catch (SQLException e) {
+            System.err.println("Error retrieving notifications: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public List<Notification> getUnreadNotifications() {
+        try {
+            return notificationDAO.findUnread();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving unread notifications: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // mark one notification as read. return the saved notification, or null if it is gone or the update failed
+    public Notification markNotificationAsRead(int notificationId) {
+        try {
+            Notification notification = notificationDAO.read(notificationId);
+            if (notification == null) {
+                return null;
+            }
+            notification.markAsRead();
+            notificationDAO.update(notification);
+            return notification;
+        } catch (SQLException e) {
+            System.err.println("Error marking notification as read: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // clear all notifications with one UPDATE. return how many were cleared
+    public int clearAllNotifications() {
+        try {
+            return notificationDAO.clearAll();
+        } catch (SQLException e) {
+            System.err.println("Error clearing notifications: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    // mark all notifications as read with one UPDATE. return how many were marked
+    public int markAllNotificationsAsRead() {
+        try {
+            return notificationDAO.markAllRead();
+        } catch (SQLException e) {
+            System.err.println("Error marking notifications as read: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    public int getUnreadNotificationCount() {
+        try {
+            return notificationDAO.countUnread();
+        } catch (SQLException e) {
+            System.err.println("Error counting unread notifications: " + e.getMessage());
+            return 0;
+        }
+    }
+}
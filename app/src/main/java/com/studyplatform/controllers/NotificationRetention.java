@@ -0,0 +1,94 @@
+package com.studyplatform.controllers;
+
+import com.studyplatform.dao.NotificationDAO;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// keeps the notifications table the size of the live inbox. once a day deleted notifications, and read ones
+// past the retention period, are moved to the archive table in small transactions, so the inbox never waits
+// long for a lock. after enough rows have moved the table is compressed to give the space back. the count
+// is kept in the database, so archives from many short sessions add up
+class NotificationRetention {
+    // read notifications older than this leave the inbox
+    private static final int READ_RETENTION_DAYS = 90;
+    // rows moved per transaction, and the pause between transactions
+    private static final int BATCH_SIZE = 512;
+    private static final long BATCH_PAUSE_MILLIS = 200;
+    // first pass after startup, so it does not compete with loading the views
+    private static final long INITIAL_DELAY_MINUTES = 1;
+    private static final long INTERVAL_HOURS = 24;
+    // compress once this many rows were archived since the last compress
+    private static final int COMPRESS_THRESHOLD = 1000;
+
+    private final NotificationDAO notificationDAO;
+    private final ScheduledExecutorService executor;
+
+    NotificationRetention(NotificationDAO notificationDAO) {
+        this.notificationDAO = notificationDAO;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "notification-retention");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        executor.scheduleWithFixedDelay(this::runPass, INITIAL_DELAY_MINUTES * 60, INTERVAL_HOURS * 3600, TimeUnit.SECONDS);
+    }
+
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // one archive pass and, if enough rows moved since the last compress, a compress
+    private void runPass() {
+        try {
+            // deleted today or later stays, the reminder scheduler still checks today's dedup keys
+            Date startOfToday = startOfDay(LocalDate.now());
+            Date readCutoff = startOfDay(LocalDate.now().minusDays(READ_RETENTION_DAYS));
+            int archived = archiveAll(true, startOfToday) + archiveAll(false, readCutoff);
+            if (archived > 0) {
+                System.out.println("Archived " + archived + " notification(s).");
+            }
+
+            if (notificationDAO.archivedSinceCompress() >= COMPRESS_THRESHOLD) {
+                notificationDAO.compressTable();
+                System.out.println("Compressed notifications table.");
+            }
+        } catch (SQLException e) {
+            System.err.println("Error archiving notifications: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // an exception escaping a scheduled task cancels every later pass, so log it and wait for the next one
+            System.err.println("Error archiving notifications: " + e);
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // archive in batches until a batch comes back short
+    private int archiveAll(boolean deleted, Date before) throws SQLException, InterruptedException {
+        int total = 0;
+        int moved;
+        do {
+            moved = deleted
+                    ? notificationDAO.archiveDeleted(before, BATCH_SIZE)
+                    : notificationDAO.archiveRead(before, BATCH_SIZE);
+            total += moved;
+            if (moved == BATCH_SIZE) {
+                Thread.sleep(BATCH_PAUSE_MILLIS);
+            }
+        } while (moved == BATCH_SIZE);
+        return total;
+    }
+
+    private static Date startOfDay(LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+}
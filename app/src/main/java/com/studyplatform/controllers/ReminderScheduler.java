@@ -0,0 +1,155 @@
+package com.studyplatform.controllers;
+
+import com.studyplatform.dao.DataChangeNotifier;
+import com.studyplatform.dao.StudyPlanDAO;
+import com.studyplatform.dao.TaskDAO;
+import com.studyplatform.dao.TutorDAO;
+import com.studyplatform.models.Coursework;
+import com.studyplatform.models.Task;
+import com.studyplatform.models.Tutor;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// keeps a time-ordered queue of upcoming reminders and sleeps until the next one is due.
+// the queue is rebuilt only when a dao writes to one of the source tables or the look-ahead window runs out
+class ReminderScheduler implements DataChangeNotifier.Listener {
+    // how far ahead reminders are queued. the queue is rebuilt when this window ends
+    private static final int HORIZON_DAYS = 7;
+    private static final Set<String> SOURCE_TABLES = Set.of("TASKS", "TUTORS", "COURSEWORKS");
+
+    // one pending reminder. dueAt is epoch millis of the start of the due day
+    record Reminder(long dueAt, String title, String description, String dedupKey) {}
+
+    private final TaskDAO taskDAO;
+    private final TutorDAO tutorDAO;
+    private final StudyPlanDAO studyPlanDAO;
+    private final Consumer<Reminder> onDue;
+
+    // only touched on the scheduler thread
+    private final PriorityQueue<Reminder> queue = new PriorityQueue<>(Comparator.comparingLong(Reminder::dueAt));
+    private long horizonEnd;
+    private ScheduledFuture<?> wakeup;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private final ScheduledExecutorService executor;
+
+    ReminderScheduler(TaskDAO taskDAO, TutorDAO tutorDAO, StudyPlanDAO studyPlanDAO, Consumer<Reminder> onDue) {
+        this.taskDAO = taskDAO;
+        this.tutorDAO = tutorDAO;
+        this.studyPlanDAO = studyPlanDAO;
+        this.onDue = onDue;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "reminder-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void start() {
+        DataChangeNotifier.addListener(this);
+        executor.execute(this::process);
+    }
+
+    void stop() {
+        DataChangeNotifier.removeListener(this);
+        executor.shutdownNow();
+    }
+
+    @Override
+    public void onDataChanged(String tableName) {
+        // several writes in a row only cause one rebuild
+        if (SOURCE_TABLES.contains(tableName) && dirty.compareAndSet(false, true)) {
+            executor.execute(this::process);
+        }
+    }
+
+    // rebuild if needed, fire everything that is due, then sleep until the next deadline
+    private void process() {
+        long now = System.currentTimeMillis();
+        if (now >= horizonEnd) {
+            dirty.set(true);
+        }
+        if (dirty.getAndSet(false)) {
+            rebuild();
+        }
+
+        while (!queue.isEmpty() && queue.peek().dueAt() <= now) {
+            Reminder reminder = queue.poll();
+            try {
+                onDue.accept(reminder);
+            } catch (RuntimeException e) {
+                System.err.println("Error firing reminder: " + e.getMessage());
+            }
+        }
+
+        if (wakeup != null) {
+            wakeup.cancel(false);
+        }
+        long next = queue.isEmpty() ? horizonEnd : Math.min(queue.peek().dueAt(), horizonEnd);
+        wakeup = executor.schedule(this::process, Math.max(0, next - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+    }
+
+    private void rebuild() {
+        queue.clear();
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(HORIZON_DAYS);
+        horizonEnd = startOfDay(horizon);
+
+        try {
+            // only open tasks inside the window come back, via the due date index
+            for (Task task : taskDAO.findTasksDueBetween(today, horizon)) {
+                enqueue(task.getDueDate(),
+                        "Task Due Today",
+                        task.getTitle() + " is due today!",
+                        "TASK", task.getId());
+            }
+        } catch (SQLException e) {
+            System.err.println("Error loading upcoming tasks: " + e.getMessage());
+        }
+
+        try {
+            for (Tutor tutor : tutorDAO.findScheduledTutorsBetween(today, horizon)) {
+                enqueue(tutor.getAvailableDate(),
+                        "Tutor Session Scheduled Today",
+                        "Tutor session for '" + tutor.getName() + "' is scheduled today!",
+                        "TUTOR", tutor.getId());
+            }
+        } catch (SQLException e) {
+            System.err.println("Error loading scheduled tutor sessions: " + e.getMessage());
+        }
+
+        try {
+            for (Coursework coursework : studyPlanDAO.findCourseworkDueBetween(today, horizon)) {
+                enqueue(coursework.getDueDate(),
+                        "Coursework Due Today",
+                        coursework.getName() + " is due today!",
+                        "COURSEWORK", coursework.getId());
+            }
+        } catch (SQLException e) {
+            System.err.println("Error loading upcoming coursework: " + e.getMessage());
+        }
+
+        System.out.println("Reminder queue rebuilt: " + queue.size() + " upcoming reminder(s).");
+    }
+
+    // queue a reminder. the range queries already limit dates to [today, horizon)
+    private void enqueue(LocalDate dueDate, String title, String description, String sourceType, int sourceId) {
+        queue.add(new Reminder(startOfDay(dueDate), title, description,
+                sourceType + ":" + sourceId + ":" + dueDate));
+    }
+
+    private static long startOfDay(LocalDate date) {
+        return date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -2,7 +2,11 @@ package com.studyplatform.controllers;
 
 import com.studyplatform.models.Coursework;
 import com.studyplatform.models.StudyPlan;
+import com.studyplatform.dao.CacheStats;
+import com.studyplatform.dao.CachingDAO;
 import com.studyplatform.dao.StudyPlanDAO;
+import com.studyplatform.dao.SchemaMigrator;
+import com.studyplatform.util.DateUtil;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -10,14 +14,23 @@ import java.util.Map;
 import java.sql.SQLException;
 
 public class StudyPlanController {
+    // Entities and keys held by each cache map
+    private static final int CACHE_SIZE = 1000;
+
     private StudyPlanDAO studyPlanDAO;
+    // Plan summaries are cached by course. Coursework writes go straight to the DAO and evict their plan
+    private CachingDAO<StudyPlan> studyPlanCache;
+    private CachingDAO.Index<StudyPlan, String> summariesByCourse;
 
     public StudyPlanController() {
         this.studyPlanDAO = new StudyPlanDAO();
+        this.studyPlanCache = new CachingDAO<>("studyPlans", studyPlanDAO, StudyPlan::getId, StudyPlan::new, CACHE_SIZE);
+        this.summariesByCourse = studyPlanCache.addIndex(StudyPlan::getCourse,
+                course -> studyPlanDAO.getStudyPlansForCourse(course, false));
         try {
-            this.studyPlanDAO.createTable();
+            SchemaMigrator.migrate();
         } catch (SQLException e) {
-            System.err.println("Error creating study plans table: " + e.getMessage());
+            System.err.println("Error migrating database schema: " + e.getMessage());
         }
     }
 
@@ -46,7 +59,7 @@ public class StudyPlanController {
         try {
             // Create the study plan
             StudyPlan studyPlan = new StudyPlan(course, name);
-            studyPlanDAO.create(studyPlan);
+            studyPlanCache.create(studyPlan);
             return studyPlan;
         } catch (SQLException e) {
             System.err.println("Error creating study plan: " + e.getMessage());
@@ -59,6 +72,9 @@ public class StudyPlanController {
             studyPlanDAO.deleteStudyPlan(course, studyPlanName);
         } catch (SQLException e) {
             System.err.println("Error deleting study plan: " + e.getMessage());
+        } finally {
+            // The DAO deletes by name, not id, so the cached plans are dropped
+            studyPlanCache.clear();
         }
     }
 
@@ -71,11 +87,31 @@ public class StudyPlanController {
         }
     }
 
+    // Plans for a course without their courseworks, for lists that only show plan names
+    public List<StudyPlan> getStudyPlanSummariesForCourse(String course) {
+        try {
+            return summariesByCourse.find(course);
+        } catch (SQLException e) {
+            System.err.println("Error retrieving study plans for course: " + e.getMessage());
+            return java.util.Collections.emptyList();
+        }
+    }
+
+    public void loadCourseworks(StudyPlan studyPlan) {
+        try {
+            studyPlanDAO.loadCourseworks(studyPlan);
+        } catch (SQLException e) {
+            System.err.println("Error loading courseworks for study plan: " + e.getMessage());
+        }
+    }
+
     public void addCourseworkToStudyPlan(StudyPlan studyPlan, Coursework coursework) {
         try {
             studyPlanDAO.addCourseworkToStudyPlan(studyPlan, coursework);
         } catch (SQLException e) {
             System.err.println("Error adding coursework to study plan: " + e.getMessage());
+        } finally {
+            studyPlanCache.evict(studyPlan.getId());
         }
     }
 
@@ -84,6 +120,8 @@ public class StudyPlanController {
             studyPlanDAO.updateCoursework(studyPlan, coursework);
         } catch (SQLException e) {
             System.err.println("Error updating coursework: " + e.getMessage());
+        } finally {
+            studyPlanCache.evict(studyPlan.getId());
         }
     }
 
@@ -92,6 +130,8 @@ public class StudyPlanController {
             studyPlanDAO.removeCourseworkFromStudyPlan(studyPlan, coursework);
         } catch (SQLException e) {
             System.err.println("Error removing coursework from study plan: " + e.getMessage());
+        } finally {
+            studyPlanCache.evict(studyPlan.getId());
         }
     }
 
@@ -107,7 +147,7 @@ public class StudyPlanController {
                     .orElse(null);
             
             if (targetPlan != null) {
-                Coursework coursework = new Coursework(courseworkName, details, dueDate, status);
+                Coursework coursework = new Coursework(courseworkName, details, DateUtil.parse(dueDate), status);
                 addCourseworkToStudyPlan(targetPlan, coursework);
             }
         } catch (Exception e) {
@@ -137,7 +177,7 @@ public class StudyPlanController {
                 if (targetCoursework != null) {
                     targetCoursework.setName(newName);
                     targetCoursework.setDetails(newDetails);
-                    targetCoursework.setDueDate(newDueDate);
+                    targetCoursework.setDueDate(DateUtil.parse(newDueDate));
                     targetCoursework.setStatus(newStatus);
                     
                     updateCoursework(targetPlan, targetCoursework);
@@ -174,7 +214,7 @@ public class StudyPlanController {
 
     public Map<String, List<StudyPlan>> getAllStudyPlans() {
         try {
-            List<StudyPlan> allPlans = studyPlanDAO.findAll();
+            List<StudyPlan> allPlans = studyPlanCache.findAll();
             Map<String, List<StudyPlan>> groupedPlans = new HashMap<>();
             
             for (StudyPlan plan : allPlans) {
@@ -187,4 +227,8 @@ public class StudyPlanController {
             return new HashMap<>();
         }
     }
+
+    public CacheStats getCacheStats() {
+        return studyPlanCache.getStats();
+    }
 }
@@ -0,0 +1,121 @@
+package com.studyplatform.controllers;
+
+import com.studyplatform.models.Task;
+import com.studyplatform.dao.CacheStats;
+import com.studyplatform.dao.CachingDAO;
+import com.studyplatform.dao.TaskDAO;
+import com.studyplatform.dao.SchemaMigrator;
+import com.studyplatform.util.DateUtil;
+import java.text.ParseException;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskController {
+    // entities and keys held by each cache map
+    private static final int CACHE_SIZE = 1000;
+
+    private TaskDAO taskDAO;
+    // reads and writes go through the cache. date range queries depend on today, so they go to the dao
+    private CachingDAO<Task> taskCache;
+    private CachingDAO.Index<Task, String> tasksByTitle;
+
+    public TaskController() {
+        this.taskDAO = new TaskDAO();
+        this.taskCache = new CachingDAO<>("tasks", taskDAO, Task::getId, Task::new, CACHE_SIZE);
+        this.tasksByTitle = taskCache.addIndex(Task::getTitle, title -> CachingDAO.single(taskDAO.findByTitle(title)));
+        try {
+            SchemaMigrator.migrate();
+        } catch (SQLException e) {
+            System.err.println("Error migrating database schema: " + e.getMessage());
+        }
+    }
+
+    public Task createTask(String title, String description, String type, String dueDateStr, String status) throws ParseException {
+        try {
+            Task task = new Task(title, description, type, DateUtil.parse(dueDateStr), status);
+            taskCache.create(task);
+            return task;
+        } catch (SQLException e) {
+            System.err.println("Error creating task: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // write new values for every field of a task. the values are checked before anything is written.
+    // returns the saved task, or null if the write failed
+    public Task updateTask(int taskId, String title, String description, String type, String dueDateStr, String status) throws ParseException {
+        LocalDate dueDate = DateUtil.parse(dueDateStr);
+        try {
+            Task updated = new Task(title, description, type, dueDate, status);
+            updated.setId(taskId);
+
+            taskCache.update(updated);
+            return updated;
+        } catch (SQLException e) {
+            System.err.println("Error updating task: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public void deleteTask(Task task) {
+        try {
+            taskCache.delete(task.getId());
+        } catch (SQLException e) {
+            System.err.println("Error deleting task: " + e.getMessage());
+        }
+    }
+
+    public List<Task> getAllTasks() {
+        try {
+            return taskCache.findAll();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving tasks: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // titles only, without loading the tasks
+    public List<String> getTaskTitles() {
+        try {
+            return taskDAO.findTitles();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving task titles: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public Task getTaskByTitle(String title) {
+        try {
+            return tasksByTitle.findOne(title);
+        } catch (SQLException e) {
+            System.err.println("Error finding task by title: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // open tasks due from today up to, but not including, today + days
+    public List<Task> getTasksDueWithin(int days) {
+        try {
+            LocalDate today = LocalDate.now();
+            return taskDAO.findTasksDueBetween(today, today.plusDays(days));
+        } catch (SQLException e) {
+            System.err.println("Error retrieving upcoming tasks: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public List<Task> getOverdueTasks() {
+        try {
+            return taskDAO.findOverdueTasks(LocalDate.now());
+        } catch (SQLException e) {
+            System.err.println("Error retrieving overdue tasks: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return taskCache.getStats();
+    }
+}
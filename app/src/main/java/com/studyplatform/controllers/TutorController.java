@@ -0,0 +1,142 @@
+package com.studyplatform.controllers;
+
+import com.studyplatform.models.Tutor;
+import com.studyplatform.dao.CacheStats;
+import com.studyplatform.dao.CachingDAO;
+import com.studyplatform.dao.TutorDAO;
+import com.studyplatform.dao.SchemaMigrator;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.time.LocalDate;
+
+public class TutorController {
+    // entities and keys held by each cache map
+    private static final int CACHE_SIZE = 1000;
+
+    private TutorDAO tutorDAO;
+    // the tutor view asks for the same class over and over, so lookups by name and class are cached
+    private CachingDAO<Tutor> tutorCache;
+    private CachingDAO.Index<Tutor, String> tutorsByName;
+    private CachingDAO.Index<Tutor, String> tutorsByClass;
+
+    public TutorController() {
+        this.tutorDAO = new TutorDAO();
+        this.tutorCache = new CachingDAO<>("tutors", tutorDAO, Tutor::getId, Tutor::new, CACHE_SIZE);
+        this.tutorsByName = tutorCache.addIndex(Tutor::getName, name -> CachingDAO.single(tutorDAO.findByName(name)));
+        this.tutorsByClass = tutorCache.addIndex(Tutor::getTutorClass, tutorDAO::findByClass);
+        try {
+            // sample tutors for a new database
+            if (SchemaMigrator.migrate() == 0) {
+                populateInitialTutors();
+            }
+        } catch (SQLException e) {
+            System.err.println("Error migrating database schema: " + e.getMessage());
+        }
+    }
+
+    private void populateInitialTutors() {
+        try {
+            List<Tutor> existingTutors = tutorCache.findAll();
+            if (existingTutors.isEmpty()) {
+                List<Tutor> initialTutors = List.of(
+                    new Tutor("Tutor A", "Math", LocalDate.of(2024, 12, 10), "Room 101", false),
+                    new Tutor("Tutor B", "Science", LocalDate.of(2024, 12, 11), "Room 202", false),
+                    new Tutor("Tutor C", "Math", LocalDate.of(2024, 12, 12), "Room 101", false),
+                    new Tutor("Tutor D", "English", LocalDate.of(2024, 12, 13), "Room 303", false)
+                );
+
+                tutorCache.createAll(initialTutors);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error populating initial tutors: " + e.getMessage());
+        }
+    }
+
+    public Tutor addTutor(String name, String tutorClass, LocalDate availableDate, String location) {
+        try {
+            Tutor tutor = new Tutor(name, tutorClass, availableDate, location, false);
+            tutorCache.create(tutor);
+            return tutor;
+        } catch (SQLException e) {
+            System.err.println("Error adding tutor: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // true if this call scheduled the session. false if the tutor is gone, already scheduled or the write failed
+    public boolean scheduleTutorSession(String tutorName) {
+        try {
+            // a copy, the cache only sees the change once it is written
+            Tutor tutor = findTutorByName(tutorName);
+            if (tutor == null || tutor.isScheduled()) {
+                return false;
+            }
+            tutor.setScheduled(true);
+            tutorCache.update(tutor);
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Error scheduling tutor session: " + e.getMessage());
+            return false;
+        }
+    }
+
+    public List<Tutor> getTutorsByClass(String tutorClass) {
+        try {
+            return tutorsByClass.find(tutorClass);
+        } catch (SQLException e) {
+            System.err.println("Error retrieving tutors by class: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public Tutor findTutorByName(String name) {
+        try {
+            return tutorsByName.findOne(name);
+        } catch (SQLException e) {
+            System.err.println("Error finding tutor by name: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public List<String> getUniqueTutorClasses() {
+        try {
+            return tutorDAO.findDistinctClasses();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving unique tutor classes: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    // names only, without loading the tutors
+    public List<String> getTutorNames() {
+        try {
+            return tutorDAO.findNames();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving tutor names: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public List<Tutor> getAllTutors() {
+        try {
+            return tutorCache.findAll();
+        } catch (SQLException e) {
+            System.err.println("Error retrieving all tutors: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public List<Tutor> findScheduledTutorsForToday(LocalDate today) {
+        try {
+            return tutorDAO.findScheduledTutorsForToday(today);
+        } catch (SQLException e) {
+            System.err.println("Error finding scheduled tutors for today: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    public CacheStats getCacheStats() {
+        return tutorCache.getStats();
+    }
+}
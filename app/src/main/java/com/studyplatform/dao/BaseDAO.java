@@ -0,0 +1,45 @@
+package com.studyplatform.dao;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public interface BaseDAO<T> {
+    // rows per round trip for stream() and forEach()
+    int DEFAULT_FETCH_SIZE = 500;
+
+    void create(T entity) throws SQLException;
+    T read(int id) throws SQLException;
+    void update(T entity) throws SQLException;
+    void delete(int id) throws SQLException;
+    List<T> findAll() throws SQLException;
+
+    // bulk versions: one transaction, jdbc batches instead of a round trip per row.
+    // createAll writes the generated ids back into the entities
+    void createAll(Collection<T> entities) throws SQLException;
+    void updateAll(Collection<T> entities) throws SQLException;
+    void deleteAll(int[] ids) throws SQLException;
+
+    // same rows as findAll, read one at a time from a forward-only cursor, so a big table never has to fit
+    // in memory. holds a pooled connection until the stream is closed, so use it in try-with-resources.
+    // errors while reading come out as UncheckedSQLException. daos whose entities span several tables
+    // fall back to findAll
+    default Stream<T> stream(int fetchSize) throws SQLException {
+        return findAll().stream();
+    }
+
+    default Stream<T> stream() throws SQLException {
+        return stream(DEFAULT_FETCH_SIZE);
+    }
+
+    // run action on every row, then close the cursor
+    default void forEach(Consumer<? super T> action) throws SQLException {
+        try (Stream<T> rows = stream()) {
+            rows.forEach(action);
+        } catch (UncheckedSQLException e) {
+            throw e.getCause();
+        }
+    }
+}
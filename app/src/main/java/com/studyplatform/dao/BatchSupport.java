@@ -0,0 +1,155 @@
+package com.studyplatform.dao;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// jdbc batching shared by the daos' createAll/updateAll/deleteAll
+final class BatchSupport {
+    // rows sent per executeBatch. big batches use a lot of memory in the driver for little gain
+    static final int BATCH_SIZE = 1000;
+    // last identity value this connection's single-row inserts assigned
+    private static final String LAST_IDENTITY_SQL = "VALUES IDENTITY_VAL_LOCAL()";
+
+    // sets the statement parameters for one entity
+    interface Binder<T> {
+        void bind(PreparedStatement pstmt, T entity) throws SQLException;
+    }
+
+    interface IdSetter<T> {
+        void setId(T entity, int id);
+    }
+
+    private BatchSupport() {}
+
+    // placeholders to use for an IN list of count values. rounded up to a power of two, so the statement
+    // cache sees a few distinct IN queries instead of one per list length
+    static int inListSize(int count) {
+        return count <= 1 ? 1 : Integer.highestOneBit(count - 1) << 1;
+    }
+
+    static String placeholders(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ", ?");
+        }
+        return sb.toString();
+    }
+
+    // bind the ids to size placeholders starting at index first. the last id fills the padding
+    static void bindInList(PreparedStatement pstmt, int first, List<Integer> ids, int size) throws SQLException {
+        for (int i = 0; i < size; i++) {
+            pstmt.setInt(first + i, ids.get(Math.min(i, ids.size() - 1)));
+        }
+    }
+
+    // batch insert and write the generated ids back in order.
+    // derby only knows the last identity value of a batch, so for more than one row the table is locked
+    // for the rest of the transaction. nobody else can take identity values in between, and the ids of a
+    // batch are the consecutive values ending at that one (identity columns here all use the default
+    // increment of 1). a single row needs no lock, its id is the connection's last identity value.
+    // it is read with IDENTITY_VAL_LOCAL() rather than getGeneratedKeys(), which the network client
+    // does not support after executeBatch
+    static <T> void insertAll(Connection conn, String table, String sql, Collection<T> entities,
+                              Binder<T> binder, IdSetter<T> idSetter) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        if (entities.size() == 1) {
+            T entity = entities.iterator().next();
+            try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                binder.bind(pstmt, entity);
+                pstmt.executeUpdate();
+            }
+            idSetter.setId(entity, lastIdentity(conn, table));
+            return;
+        }
+
+        try (Statement lock = conn.createStatement()) {
+            lock.execute("LOCK TABLE " + table + " IN EXCLUSIVE MODE");
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            List<T> batch = new ArrayList<>(Math.min(entities.size(), BATCH_SIZE));
+            for (T entity : entities) {
+                binder.bind(pstmt, entity);
+                pstmt.addBatch();
+                batch.add(entity);
+                if (batch.size() == BATCH_SIZE) {
+                    executeInsertBatch(conn, pstmt, table, batch, idSetter);
+                }
+            }
+            if (!batch.isEmpty()) {
+                executeInsertBatch(conn, pstmt, table, batch, idSetter);
+            }
+        }
+    }
+
+    private static <T> void executeInsertBatch(Connection conn, PreparedStatement pstmt, String table, List<T> batch,
+                                               IdSetter<T> idSetter) throws SQLException {
+        pstmt.executeBatch();
+        int firstId = lastIdentity(conn, table) - batch.size() + 1;
+        for (int i = 0; i < batch.size(); i++) {
+            idSetter.setId(batch.get(i), firstId + i);
+        }
+        batch.clear();
+    }
+
+    private static int lastIdentity(Connection conn, String table) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(LAST_IDENTITY_SQL)) {
+            if (!rs.next() || rs.getObject(1) == null) {
+                throw new SQLException("Insert into " + table + " returned no generated key.");
+            }
+            return rs.getInt(1);
+        }
+    }
+
+    // batch a statement once per entity, e.g. an UPDATE ... WHERE id = ?
+    static <T> void executeAll(Connection conn, String sql, Collection<T> entities, Binder<T> binder) throws SQLException {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            int pending = 0;
+            for (T entity : entities) {
+                binder.bind(pstmt, entity);
+                pstmt.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    pstmt.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+
+    // batch a statement whose only parameter is an id, e.g. DELETE ... WHERE id = ?
+    static void executeAll(Connection conn, String sql, int[] ids) throws SQLException {
+        if (ids.length == 0) {
+            return;
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < ids.length; i++) {
+                pstmt.setInt(1, ids[i]);
+                pstmt.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    pstmt.executeBatch();
+                }
+            }
+            if (ids.length % BATCH_SIZE != 0) {
+                pstmt.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.studyplatform.dao;
+
+// point-in-time snapshot of a CachingDAO's metrics. size counts cached entities, index keys and the findAll list
+public record CacheStats(
+        String name,
+        int size,
+        int maxSize,
+        long hitCount,
+        long missCount,
+        long evictionCount) {
+
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats{" + name + ": size=" + size + ", max=" + maxSize +
+                ", hits=" + hitCount + ", misses=" + missCount +
+                ", hitRate=" + String.format("%.1f%%", hitRate() * 100) +
+                ", evictions=" + evictionCount + "}";
+    }
+}
@@ -0,0 +1,342 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+// write-through cache in front of a dao. entities are kept by id, and query results by secondary key
+// (name, class, course...) in indexes. every map is an lru bounded to maxSize entries.
+// entities are copied into and out of the cache, so a caller can change what it got without changing
+// what other callers see, and a change only reaches the cache once update() has written it.
+// writes that go around this class (e.g. GroupDAO.addMember) must call evict() for the entity they touch.
+// when the database is shared (server or client mode) other processes write rows this one never hears
+// about, so the cache is off and every read goes to the dao
+public final class CachingDAO<T> implements BaseDAO<T> {
+    // runs the real query for one index key
+    public interface Loader<K, T> {
+        List<T> load(K key) throws SQLException;
+    }
+
+    private final String name;
+    private final BaseDAO<T> delegate;
+    private final ToIntFunction<T> idOf;
+    private final UnaryOperator<T> copyOf;
+    private final int maxSize;
+    private final boolean enabled = !DatabaseUtil.isShared();
+
+    // everything below is guarded by this
+    private final LruMap<Integer, T> byId;
+    private final List<Index<T, ?>> indexes = new ArrayList<>();
+    // findAll result, only kept while it has at most maxSize rows
+    private List<T> all;
+    // bumped by every write. a load that started before a write does not store its possibly stale result
+    private long version;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingDAO(String name, BaseDAO<T> delegate, ToIntFunction<T> idOf, UnaryOperator<T> copyOf, int maxSize) {
+        this.name = name;
+        this.delegate = delegate;
+        this.idOf = idOf;
+        this.copyOf = copyOf;
+        this.maxSize = maxSize;
+        this.byId = new LruMap<>(maxSize, (id, entity) -> evictions.increment());
+    }
+
+    // cache a dao query by a key of the entity. keyOf must give the key the loader would find the entity under
+    public synchronized <K> Index<T, K> addIndex(Function<T, K> keyOf, Loader<K, T> loader) {
+        Index<T, K> index = new Index<>(this, keyOf, loader);
+        indexes.add(index);
+        return index;
+    }
+
+    // for loaders over a finder that returns one entity or null
+    public static <T> List<T> single(T entity) {
+        return entity == null ? List.of() : List.of(entity);
+    }
+
+    @Override
+    public void create(T entity) throws SQLException {
+        delegate.create(entity);
+        written(List.of(entity));
+    }
+
+    @Override
+    public T read(int id) throws SQLException {
+        if (!enabled) {
+            return delegate.read(id);
+        }
+        long seen;
+        synchronized (this) {
+            T cached = byId.get(id);
+            if (cached != null) {
+                hits.increment();
+                return copyOf.apply(cached);
+            }
+            seen = version;
+        }
+        misses.increment();
+
+        T entity = delegate.read(id);
+        synchronized (this) {
+            if (entity != null && version == seen) {
+                byId.put(id, copyOf.apply(entity));
+            }
+        }
+        return entity;
+    }
+
+    @Override
+    public void update(T entity) throws SQLException {
+        updateAll(List.of(entity));
+    }
+
+    @Override
+    public void delete(int id) throws SQLException {
+        deleteAll(new int[] {id});
+    }
+
+    @Override
+    public List<T> findAll() throws SQLException {
+        if (!enabled) {
+            return delegate.findAll();
+        }
+        long seen;
+        synchronized (this) {
+            if (all != null) {
+                hits.increment();
+                return copyAll(all);
+            }
+            seen = version;
+        }
+        misses.increment();
+
+        List<T> entities = delegate.findAll();
+        synchronized (this) {
+            if (entities.size() <= maxSize && version == seen) {
+                all = copyAll(entities);
+            }
+        }
+        return entities;
+    }
+
+    // passed through, a table read row by row is not worth caching
+    @Override
+    public Stream<T> stream(int fetchSize) throws SQLException {
+        return delegate.stream(fetchSize);
+    }
+
+    @Override
+    public void createAll(Collection<T> entities) throws SQLException {
+        delegate.createAll(entities);
+        written(entities);
+    }
+
+    // a failed batch may have written some of the rows, so the entities are evicted
+    @Override
+    public void updateAll(Collection<T> entities) throws SQLException {
+        try {
+            delegate.updateAll(entities);
+        } catch (SQLException | RuntimeException e) {
+            for (T entity : entities) {
+                evict(idOf.applyAsInt(entity));
+            }
+            throw e;
+        }
+        written(entities);
+    }
+
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        try {
+            delegate.deleteAll(ids);
+        } finally {
+            for (int id : ids) {
+                evict(id);
+            }
+        }
+    }
+
+    // forget one entity, for writes that do not go through this class
+    public synchronized void evict(int id) {
+        version++;
+        all = null;
+        byId.remove(id);
+        for (Index<T, ?> index : indexes) {
+            index.removeId(id);
+        }
+    }
+
+    public synchronized void clear() {
+        version++;
+        all = null;
+        byId.clear();
+        for (Index<T, ?> index : indexes) {
+            index.clear();
+        }
+    }
+
+    public synchronized CacheStats getStats() {
+        int size = byId.size() + (all == null ? 0 : 1);
+        for (Index<T, ?> index : indexes) {
+            size += index.entries.size();
+        }
+        return new CacheStats(name, size, maxSize * (indexes.size() + 1),
+                hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    // store the written entities and drop the index entries they were or now are listed under
+    private synchronized void written(Collection<T> entities) {
+        if (!enabled) {
+            return;
+        }
+        version++;
+        all = null;
+        for (T entity : entities) {
+            int id = idOf.applyAsInt(entity);
+            byId.put(id, copyOf.apply(entity));
+            for (Index<T, ?> index : indexes) {
+                index.removeId(id);
+                index.removeKeyOf(entity);
+            }
+        }
+    }
+
+    private List<T> copyAll(List<T> entities) {
+        List<T> copies = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            copies.add(copyOf.apply(entity));
+        }
+        return copies;
+    }
+
+    // query results by one secondary key. all state is guarded by the owning cache
+    public static final class Index<T, K> {
+        private final CachingDAO<T> owner;
+        private final Function<T, K> keyOf;
+        private final Loader<K, T> loader;
+        private final LruMap<K, List<T>> entries;
+        // key each cached entity is listed under, so a write can find the entry even after the key changed
+        private final Map<Integer, K> keyById = new HashMap<>();
+
+        private Index(CachingDAO<T> owner, Function<T, K> keyOf, Loader<K, T> loader) {
+            this.owner = owner;
+            this.keyOf = keyOf;
+            this.loader = loader;
+            this.entries = new LruMap<>(owner.maxSize, (key, list) -> {
+                owner.evictions.increment();
+                forget(list);
+            });
+        }
+
+        public List<T> find(K key) throws SQLException {
+            if (!owner.enabled) {
+                return loader.load(key);
+            }
+            long seen;
+            synchronized (owner) {
+                List<T> cached = entries.get(key);
+                if (cached != null) {
+                    owner.hits.increment();
+                    return owner.copyAll(cached);
+                }
+                seen = owner.version;
+            }
+            owner.misses.increment();
+
+            List<T> loaded = loader.load(key);
+            synchronized (owner) {
+                if (owner.version == seen) {
+                    entries.put(key, owner.copyAll(loaded));
+                    for (T entity : loaded) {
+                        keyById.put(owner.idOf.applyAsInt(entity), key);
+                    }
+                }
+            }
+            return loaded;
+        }
+
+        // first entity under the key, or null
+        public T findOne(K key) throws SQLException {
+            List<T> found = find(key);
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        // drop one key, for writes that do not go through the cache and do not know the entity id
+        public void invalidate(K key) {
+            synchronized (owner) {
+                owner.version++;
+                List<T> list = entries.remove(key);
+                if (list != null) {
+                    forget(list);
+                }
+            }
+        }
+
+        private void removeId(int id) {
+            K key = keyById.remove(id);
+            if (key != null) {
+                List<T> list = entries.remove(key);
+                if (list != null) {
+                    forget(list);
+                }
+            }
+        }
+
+        private void removeKeyOf(T entity) {
+            List<T> list = entries.remove(keyOf.apply(entity));
+            if (list != null) {
+                forget(list);
+            }
+        }
+
+        private void forget(List<T> list) {
+            for (T entity : list) {
+                keyById.remove(owner.idOf.applyAsInt(entity));
+            }
+        }
+
+        private void clear() {
+            entries.clear();
+            keyById.clear();
+        }
+    }
+
+    // access-ordered map that drops the least recently used entry past maxSize
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        interface EvictionListener<K, V> {
+            void evicted(K key, V value);
+        }
+
+        private final int maxSize;
+        private final EvictionListener<K, V> listener;
+
+        LruMap(int maxSize, EvictionListener<K, V> listener) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+            this.listener = listener;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > maxSize) {
+                listener.evicted(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    }
+}
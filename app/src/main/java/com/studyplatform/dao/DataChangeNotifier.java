@@ -0,0 +1,130 @@
+package com.studyplatform.dao;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+// lets other parts of the app react when a dao writes to a table, instead of polling it.
+// table listeners hear that a table changed, entity listeners get typed events with the rows
+public final class DataChangeNotifier {
+    public interface Listener {
+        // called on the writing thread, so listeners should hand off any real work
+        void onDataChanged(String tableName);
+    }
+
+    public interface EntityListener<T> {
+        // called on the writing thread after the write committed, same as Listener
+        void onEntityEvent(EntityEvent<T> event);
+    }
+
+    private static final List<Listener> LISTENERS = new CopyOnWriteArrayList<>();
+    private static final Map<Class<?>, List<EntityListener<?>>> ENTITY_LISTENERS = new ConcurrentHashMap<>();
+
+    private DataChangeNotifier() {}
+
+    public static void addListener(Listener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void removeListener(Listener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    public static <T> void addEntityListener(Class<T> type, EntityListener<T> listener) {
+        ENTITY_LISTENERS.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public static <T> void removeEntityListener(Class<T> type, EntityListener<T> listener) {
+        List<EntityListener<?>> listeners = ENTITY_LISTENERS.get(type);
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    static void fireChanged(String tableName) {
+        for (Listener listener : LISTENERS) {
+            try {
+                listener.onDataChanged(tableName);
+            } catch (RuntimeException e) {
+                System.err.println("Error notifying data change listener: " + e.getMessage());
+            }
+        }
+    }
+
+    // send the event to the entity listeners of its type, then tell the table listeners.
+    // inside a UnitOfWork this waits for the commit, so listeners never see rows that were rolled back
+    static <T> void publish(EntityEvent<T> event) {
+        UnitOfWork.afterCommit(() -> deliver(event));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void deliver(EntityEvent<T> event) {
+        List<EntityListener<?>> listeners = ENTITY_LISTENERS.get(event.type());
+        if (listeners != null) {
+            for (EntityListener<?> listener : listeners) {
+                try {
+                    ((EntityListener<T>) listener).onEntityEvent(event);
+                } catch (RuntimeException e) {
+                    System.err.println("Error notifying entity listener: " + e.getMessage());
+                }
+            }
+        }
+        fireChanged(event.table());
+    }
+
+    // events carry copies of the written entities, so listeners on other threads (e.g. a table on the edt)
+    // never share an object the writer keeps changing
+    static <T> void created(String table, Class<T> type, Collection<T> entities, ToIntFunction<T> idOf,
+                            UnaryOperator<T> copyOf) {
+        if (!entities.isEmpty()) {
+            publish(new EntityEvent.EntityCreated<>(table, type, ids(entities, idOf), copies(entities, copyOf)));
+        }
+    }
+
+    static <T> void updated(String table, Class<T> type, Collection<T> entities, ToIntFunction<T> idOf,
+                            UnaryOperator<T> copyOf) {
+        if (!entities.isEmpty()) {
+            publish(new EntityEvent.EntityUpdated<>(table, type, ids(entities, idOf), copies(entities, copyOf)));
+        }
+    }
+
+    // an update where only the id is known
+    static <T> void updated(String table, Class<T> type, int id) {
+        publish(new EntityEvent.EntityUpdated<>(table, type, List.of(id), List.of()));
+    }
+
+    static <T> void deleted(String table, Class<T> type, int[] ids) {
+        if (ids.length > 0) {
+            List<Integer> idList = new ArrayList<>(ids.length);
+            for (int id : ids) {
+                idList.add(id);
+            }
+            publish(new EntityEvent.EntityDeleted<>(table, type, List.copyOf(idList)));
+        }
+    }
+
+    static <T> void invalidated(String table, Class<T> type) {
+        publish(new EntityEvent.EntitiesInvalidated<>(table, type));
+    }
+
+    private static <T> List<T> copies(Collection<T> entities, UnaryOperator<T> copyOf) {
+        List<T> copies = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            copies.add(copyOf.apply(entity));
+        }
+        return List.copyOf(copies);
+    }
+
+    private static <T> List<Integer> ids(Collection<T> entities, ToIntFunction<T> idOf) {
+        List<Integer> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ids.add(idOf.applyAsInt(entity));
+        }
+        return List.copyOf(ids);
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyplatform.dao;
+
+import java.util.List;
+
+// a write to one entity table, published by the daos through DataChangeNotifier.
+// entities are the objects that were written, ids are their ids in the same order
+public sealed interface EntityEvent<T> {
+    String table();
+    Class<T> type();
+
+    record EntityCreated<T>(String table, Class<T> type, List<Integer> ids, List<T> entities)
+            implements EntityEvent<T> {}
+
+    // entities is empty when the dao only knows the ids, e.g. a group member was added.
+    // listeners that need the new state read those ids again
+    record EntityUpdated<T>(String table, Class<T> type, List<Integer> ids, List<T> entities)
+            implements EntityEvent<T> {}
+
+    record EntityDeleted<T>(String table, Class<T> type, List<Integer> ids)
+            implements EntityEvent<T> {}
+
+    // one statement changed rows it cannot list, e.g. mark all read. listeners reload
+    record EntitiesInvalidated<T>(String table, Class<T> type)
+            implements EntityEvent<T> {}
+}
@@ -0,0 +1,317 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.models.Group;
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class GroupDAO implements BaseDAO<Group> {
+    private static final String TABLE_NAME = "GROUPS";
+    private static final String MEMBERS_TABLE_NAME = "GROUP_MEMBERS";
+    private static final String FILES_TABLE_NAME = "GROUP_FILES";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME + " (name, meeting_time) VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE " + TABLE_NAME + " SET name = ?, meeting_time = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String UPDATE_MEETING_TIME_SQL = "UPDATE " + TABLE_NAME + " SET meeting_time = ? WHERE id = ?";
+    private static final String READ_SQL = "SELECT * FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String FIND_ALL_SQL = "SELECT * FROM " + TABLE_NAME;
+    private static final String FIND_BY_NAME_SQL =
+            "SELECT * FROM " + TABLE_NAME + " WHERE name = ? FETCH FIRST 1 ROWS ONLY";
+    private static final String FIND_BY_MEMBER_SQL = "SELECT g.* FROM " + TABLE_NAME + " g " +
+            "JOIN " + MEMBERS_TABLE_NAME + " m ON m.group_id = g.id WHERE m.member_name = ? ORDER BY g.name";
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO " + MEMBERS_TABLE_NAME + " (group_id, member_name) VALUES (?, ?)";
+    private static final String DELETE_MEMBER_SQL =
+            "DELETE FROM " + MEMBERS_TABLE_NAME + " WHERE group_id = ? AND member_name = ?";
+    private static final String DELETE_MEMBERS_SQL = "DELETE FROM " + MEMBERS_TABLE_NAME + " WHERE group_id = ?";
+    private static final String INSERT_FILE_SQL = "INSERT INTO " + FILES_TABLE_NAME + " (group_id, file_name) VALUES (?, ?)";
+    private static final String DELETE_FILE_SQL =
+            "DELETE FROM " + FILES_TABLE_NAME + " WHERE group_id = ? AND file_name = ?";
+    private static final String DELETE_FILES_SQL = "DELETE FROM " + FILES_TABLE_NAME + " WHERE group_id = ?";
+
+    // Max group ids bound into a single IN (...) list
+    private static final int IN_BATCH_SIZE = 512;
+
+    // the group row and its member and file rows are written in one transaction
+    @Override
+    public void create(Group group) throws SQLException {
+        createAll(List.of(group));
+    }
+
+    @Override
+    public Group read(int id) throws SQLException {
+        Group group = null;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(READ_SQL)) {
+            pstmt.setInt(1, id);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    group = readGroup(rs);
+                }
+            }
+        }
+
+        // the connection is back in the pool before the member and file queries borrow one
+        if (group != null) {
+            loadMembersAndFiles(List.of(group));
+        }
+        return group;
+    }
+
+    // Write the group row and replace its member and file rows. Use the add/remove methods for single changes
+    @Override
+    public void update(Group group) throws SQLException {
+        updateAll(List.of(group));
+    }
+
+    // Update only the meeting time, leaving members and files untouched
+    public void updateMeetingTime(int groupId, java.util.Date meetingTime) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_MEETING_TIME_SQL)) {
+            pstmt.setTimestamp(1, meetingTime != null ? new Timestamp(meetingTime.getTime()) : null);
+            pstmt.setInt(2, groupId);
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Group.class, groupId);
+    }
+
+    // member and file rows go with the group through ON DELETE CASCADE
+    @Override
+    public void delete(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setInt(1, id);
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.deleted(TABLE_NAME, Group.class, new int[] {id});
+    }
+
+    // insert the group rows, then all of their member and file rows, in one transaction
+    @Override
+    public void createAll(Collection<Group> groups) throws SQLException {
+        UnitOfWork.run(conn -> {
+            BatchSupport.insertAll(conn, TABLE_NAME, INSERT_SQL, groups, this::bindInsert, Group::setId);
+            insertChildren(conn, groups);
+        });
+        DataChangeNotifier.created(TABLE_NAME, Group.class, groups, Group::getId, Group::new);
+    }
+
+    @Override
+    public void updateAll(Collection<Group> groups) throws SQLException {
+        int[] ids = groups.stream().mapToInt(Group::getId).toArray();
+        UnitOfWork.run(conn -> {
+            BatchSupport.executeAll(conn, UPDATE_SQL, groups, this::bindUpdate);
+            BatchSupport.executeAll(conn, DELETE_MEMBERS_SQL, ids);
+            BatchSupport.executeAll(conn, DELETE_FILES_SQL, ids);
+            insertChildren(conn, groups);
+        });
+        DataChangeNotifier.updated(TABLE_NAME, Group.class, groups, Group::getId, Group::new);
+    }
+
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, DELETE_SQL, ids));
+        DataChangeNotifier.deleted(TABLE_NAME, Group.class, ids);
+    }
+
+    @Override
+    public List<Group> findAll() throws SQLException {
+        List<Group> groups = new ArrayList<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                groups.add(readGroup(rs));
+            }
+        }
+
+        loadMembersAndFiles(groups);
+        return groups;
+    }
+
+    // find group by name using idx_groups_name
+    public Group findByName(String name) throws SQLException {
+        Group group = null;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BY_NAME_SQL)) {
+            pstmt.setString(1, name);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    group = readGroup(rs);
+                }
+            }
+        }
+
+        // the connection is back in the pool before the member and file queries borrow one
+        if (group != null) {
+            loadMembersAndFiles(List.of(group));
+        }
+        return group;
+    }
+
+    // groups that have this member, using idx_group_members_member
+    public List<Group> findGroupsByMember(String memberName) throws SQLException {
+        List<Group> groups = new ArrayList<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BY_MEMBER_SQL)) {
+            pstmt.setString(1, memberName);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    groups.add(readGroup(rs));
+                }
+            }
+        }
+
+        loadMembersAndFiles(groups);
+        return groups;
+    }
+
+    // member and file changes are published as an update of the group, with only its id
+    // add one member row. return false if the member was already in the group
+    public boolean addMember(int groupId, String memberName) throws SQLException {
+        return insertChild(INSERT_MEMBER_SQL, groupId, memberName);
+    }
+
+    // delete one member row. return false if the member was not in the group
+    public boolean removeMember(int groupId, String memberName) throws SQLException {
+        return deleteChild(DELETE_MEMBER_SQL, groupId, memberName);
+    }
+
+    // add one file row. return false if the file was already uploaded to the group
+    public boolean addFile(int groupId, String fileName) throws SQLException {
+        return insertChild(INSERT_FILE_SQL, groupId, fileName);
+    }
+
+    // delete one file row. return false if the group did not have the file
+    public boolean removeFile(int groupId, String fileName) throws SQLException {
+        return deleteChild(DELETE_FILE_SQL, groupId, fileName);
+    }
+
+    private boolean insertChild(String sql, int groupId, String value) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, groupId);
+            pstmt.setString(2, value);
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            if (SchemaHelper.DUPLICATE_KEY.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Group.class, groupId);
+        return true;
+    }
+
+    private boolean deleteChild(String sql, int groupId, String value) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, groupId);
+            pstmt.setString(2, value);
+            if (pstmt.executeUpdate() == 0) {
+                return false;
+            }
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Group.class, groupId);
+        return true;
+    }
+
+    // one member or file row
+    private record ChildRow(int groupId, String value) {}
+
+    private void insertChildren(Connection conn, Collection<Group> groups) throws SQLException {
+        List<ChildRow> members = new ArrayList<>();
+        List<ChildRow> files = new ArrayList<>();
+        for (Group group : groups) {
+            for (String member : group.getMembers()) {
+                members.add(new ChildRow(group.getId(), member));
+            }
+            for (String file : group.getFiles()) {
+                files.add(new ChildRow(group.getId(), file));
+            }
+        }
+
+        BatchSupport.executeAll(conn, INSERT_MEMBER_SQL, members, GroupDAO::bindChildRow);
+        BatchSupport.executeAll(conn, INSERT_FILE_SQL, files, GroupDAO::bindChildRow);
+    }
+
+    private static void bindChildRow(PreparedStatement pstmt, ChildRow row) throws SQLException {
+        pstmt.setInt(1, row.groupId());
+        pstmt.setString(2, row.value());
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Group group) throws SQLException {
+        pstmt.setString(1, group.getName());
+        pstmt.setTimestamp(2, group.getMeetingTime() != null ? new Timestamp(group.getMeetingTime().getTime()) : null);
+    }
+
+    private void bindUpdate(PreparedStatement pstmt, Group group) throws SQLException {
+        bindInsert(pstmt, group);
+        pstmt.setInt(3, group.getId());
+    }
+
+    // Fill members and files for many groups with one IN (...) query per table and batch
+    private void loadMembersAndFiles(List<Group> groups) throws SQLException {
+        Map<Integer, Group> groupsById = new HashMap<>();
+        for (Group group : groups) {
+            groupsById.put(group.getId(), group);
+        }
+        if (groupsById.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(groupsById.keySet());
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            for (int start = 0; start < ids.size(); start += IN_BATCH_SIZE) {
+                List<Integer> batch = ids.subList(start, Math.min(start + IN_BATCH_SIZE, ids.size()));
+
+                try (PreparedStatement pstmt = prepareChildQuery(conn, MEMBERS_TABLE_NAME, "member_name", batch);
+                     ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        groupsById.get(rs.getInt(1)).addMember(rs.getString(2));
+                    }
+                }
+
+                try (PreparedStatement pstmt = prepareChildQuery(conn, FILES_TABLE_NAME, "file_name", batch);
+                     ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        groupsById.get(rs.getInt(1)).uploadFile(rs.getString(2));
+                    }
+                }
+            }
+        }
+    }
+
+    private static PreparedStatement prepareChildQuery(Connection conn, String table, String column,
+                                                       List<Integer> groupIds) throws SQLException {
+        int size = BatchSupport.inListSize(groupIds.size());
+        String sql = "SELECT group_id, " + column + " FROM " + table + " " +
+                     "WHERE group_id IN (" + BatchSupport.placeholders(size) + ") ORDER BY id";
+        PreparedStatement pstmt = conn.prepareStatement(sql);
+        BatchSupport.bindInList(pstmt, 1, groupIds, size);
+        return pstmt;
+    }
+
+    // group row only. members and files are loaded separately
+    private Group readGroup(ResultSet rs) throws SQLException {
+        Group group = new Group();
+        group.setId(rs.getInt("id"));
+        group.setName(rs.getString("name"));
+
+        Timestamp meetingTime = rs.getTimestamp("meeting_time");
+        if (meetingTime != null) {
+            group.setMeetingTime(new java.util.Date(meetingTime.getTime()));
+        }
+
+        return group;
+    }
+}
@@ -0,0 +1,356 @@
+package com.studyplatform.dao;
+
+// handle all database operation related to notification
+import com.studyplatform.models.Notification;
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class NotificationDAO implements BaseDAO<Notification> {
+    // table name
+    private static final String TABLE_NAME = "NOTIFICATIONS";
+    // deleted and expired notifications moved out of the inbox table, so it only holds the live inbox
+    private static final String ARCHIVE_TABLE_NAME = "NOTIFICATIONS_ARCHIVE";
+    // one row counting rows archived since the inbox table was last compressed, kept across restarts
+    private static final String RETENTION_TABLE_NAME = "NOTIFICATIONS_RETENTION";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME +
+            " (title, description, timestamp, is_read, is_deleted, dedup_key) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE " + TABLE_NAME + " SET title = ?, description = ?, is_read = ?, is_deleted = ? WHERE id = ?";
+    private static final String DELETE_SQL = "UPDATE " + TABLE_NAME + " SET is_deleted = TRUE WHERE id = ?";
+    private static final String CLEAR_ALL_SQL = "UPDATE " + TABLE_NAME + " SET is_deleted = TRUE WHERE is_deleted = FALSE";
+    private static final String MARK_ALL_READ_SQL =
+            "UPDATE " + TABLE_NAME + " SET is_read = TRUE WHERE is_read = FALSE AND is_deleted = FALSE";
+    // make notification object from a row
+    private static final RowMapper<Notification> NOTIFICATION_MAPPER = new RowMapper<>(row -> {
+        Notification notification = new Notification();
+        notification.setId(row.nextInt());
+        notification.setTitle(row.nextString());
+        notification.setDescription(row.nextString());
+        notification.setTimestamp(row.nextTimestamp());
+        notification.setDedupKey(row.nextString());
+        // check for if notification is read / deleted
+        if (row.nextBoolean()) {
+            notification.markAsRead();
+        }
+        if (row.nextBoolean()) {
+            notification.markAsDeleted();
+        }
+        return notification;
+    }, "id", "title", "description", "timestamp", "dedup_key", "is_read", "is_deleted");
+    private static final RowMapper<Integer> ID_MAPPER = new RowMapper<>(RowMapper.Row::nextInt, "id");
+    private static final String SELECT_NOTIFICATION = "SELECT " + NOTIFICATION_MAPPER.columns() + " FROM " + TABLE_NAME;
+    private static final String READ_SQL = SELECT_NOTIFICATION + " WHERE id = ?";
+    private static final String FIND_ALL_SQL = SELECT_NOTIFICATION + " ORDER BY timestamp DESC";
+    // primary key order, so derby walks the index instead of sorting the whole table first
+    private static final String STREAM_SQL = SELECT_NOTIFICATION + " ORDER BY id";
+    private static final String COUNT_UNREAD_SQL =
+            "SELECT COUNT(*) FROM " + TABLE_NAME + " WHERE is_deleted = FALSE AND is_read = FALSE";
+    private static final String FIND_UNREAD_SQL =
+            SELECT_NOTIFICATION + " WHERE is_deleted = FALSE AND is_read = FALSE ORDER BY timestamp DESC";
+    private static final String FIND_ACTIVE_SQL = SELECT_NOTIFICATION +
+            " WHERE is_deleted = FALSE ORDER BY timestamp DESC, id DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY";
+    private static final String FIRST_ACTIVE_PAGE_SQL = SELECT_NOTIFICATION +
+            " WHERE is_deleted = FALSE ORDER BY timestamp DESC, id DESC FETCH FIRST ? ROWS ONLY";
+    // timestamp <= ? gives the index a start key, the OR then skips the rows already shown
+    private static final String NEXT_ACTIVE_PAGE_SQL = SELECT_NOTIFICATION + " WHERE is_deleted = FALSE " +
+            "AND timestamp <= ? AND (timestamp < ? OR id < ?) ORDER BY timestamp DESC, id DESC FETCH FIRST ? ROWS ONLY";
+    // rows to archive, found through idx_notifications_inbox and idx_notifications_unread
+    private static final String DELETED_BEFORE_SQL = "SELECT " + ID_MAPPER.columns() + " FROM " + TABLE_NAME +
+            " WHERE is_deleted = TRUE AND timestamp < ? FETCH FIRST ? ROWS ONLY";
+    private static final String READ_BEFORE_SQL = "SELECT " + ID_MAPPER.columns() + " FROM " + TABLE_NAME +
+            " WHERE is_deleted = FALSE AND is_read = TRUE AND timestamp < ? FETCH FIRST ? ROWS ONLY";
+    private static final String COMPRESS_SQL = "CALL SYSCS_UTIL.SYSCS_COMPRESS_TABLE(?, ?, 1)";
+    private static final String ARCHIVED_SINCE_COMPRESS_SQL =
+            "SELECT archived_since_compress FROM " + RETENTION_TABLE_NAME + " WHERE id = 1";
+    private static final String ADD_ARCHIVED_SQL = "UPDATE " + RETENTION_TABLE_NAME +
+            " SET archived_since_compress = archived_since_compress + ? WHERE id = 1";
+    // subtracts what was counted before the compress, so rows archived meanwhile still count towards the next
+    private static final String COMPRESSED_SQL = "UPDATE " + RETENTION_TABLE_NAME +
+            " SET archived_since_compress = archived_since_compress - ?, compressed_at = CURRENT_TIMESTAMP WHERE id = 1";
+
+    // make new notification
+    @Override
+    public void create(Notification notification) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            // set all notification details
+            bindInsert(pstmt, notification);
+            
+            // insert
+            pstmt.executeUpdate();
+            
+            // get notification id
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    notification.setId(generatedKeys.getInt(1));
+                }
+            }
+        }
+        DataChangeNotifier.created(TABLE_NAME, Notification.class, List.of(notification), Notification::getId, Notification::new);
+    }
+
+    // insert notification unless one with the same dedup key exists. the unique constraint does the check,
+    // so this costs one index probe no matter how many notifications are stored. return true if inserted
+    public boolean createIfAbsent(Notification notification) throws SQLException {
+        try {
+            create(notification);
+            return true;
+        } catch (SQLException e) {
+            if (SchemaHelper.DUPLICATE_KEY.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    // find notification by id and return it
+    @Override
+    public Notification read(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(READ_SQL)) {
+            pstmt.setInt(1, id);
+            
+            // null if no notification found
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return NOTIFICATION_MAPPER.first(rs);
+            }
+        }
+    }
+
+    // update notification in database
+    @Override
+    public void update(Notification notification) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            // set all notification with updated details
+            bindUpdate(pstmt, notification);
+            
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Notification.class, List.of(notification), Notification::getId, Notification::new);
+    }
+
+    // mark notification as deleted. we dont really delete it, so that we know which notifications are deleted.
+    // listeners still get a delete event, the row is gone from every view
+    @Override
+    public void delete(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setInt(1, id);
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.deleted(TABLE_NAME, Notification.class, new int[] {id});
+    }
+
+    // mark every notification that is not deleted yet as deleted, in one statement. return how many were cleared
+    public int clearAll() throws SQLException {
+        return executeBulkUpdate(CLEAR_ALL_SQL);
+    }
+
+    // mark every unread, not deleted notification as read, in one statement. return how many changed
+    public int markAllRead() throws SQLException {
+        return executeBulkUpdate(MARK_ALL_READ_SQL);
+    }
+
+    // the changed rows are not known here, so listeners are told to reload
+    private int executeBulkUpdate(String sql) throws SQLException {
+        int changed;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            changed = pstmt.executeUpdate();
+        }
+        if (changed > 0) {
+            DataChangeNotifier.invalidated(TABLE_NAME, Notification.class);
+        }
+        return changed;
+    }
+
+    // move up to limit deleted notifications from before the cutoff into the archive, in one transaction.
+    // return how many moved. listeners are not told, the rows already left every view when they were deleted
+    public int archiveDeleted(java.util.Date before, int limit) throws SQLException {
+        return archive(DELETED_BEFORE_SQL, before, limit).length;
+    }
+
+    // move up to limit read notifications from before the cutoff into the archive, in one transaction.
+    // they leave the inbox, so listeners get a delete event. return how many moved
+    public int archiveRead(java.util.Date before, int limit) throws SQLException {
+        int[] ids = archive(READ_BEFORE_SQL, before, limit);
+        if (ids.length > 0) {
+            DataChangeNotifier.deleted(TABLE_NAME, Notification.class, ids);
+        }
+        return ids.length;
+    }
+
+    private int[] archive(String findSql, java.util.Date before, int limit) throws SQLException {
+        return UnitOfWork.execute(conn -> {
+            List<Integer> ids;
+            try (PreparedStatement pstmt = conn.prepareStatement(findSql)) {
+                pstmt.setTimestamp(1, new Timestamp(before.getTime()));
+                pstmt.setInt(2, limit);
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    ids = ID_MAPPER.list(rs);
+                }
+            }
+            if (ids.isEmpty()) {
+                return new int[0];
+            }
+
+            int size = BatchSupport.inListSize(ids.size());
+            String idList = " WHERE id IN (" + BatchSupport.placeholders(size) + ")";
+            try (PreparedStatement copy = conn.prepareStatement("INSERT INTO " + ARCHIVE_TABLE_NAME +
+                         " (id, title, description, timestamp, is_read, is_deleted, dedup_key, archived_at) " +
+                         "SELECT id, title, description, timestamp, is_read, is_deleted, dedup_key, CURRENT_TIMESTAMP " +
+                         "FROM " + TABLE_NAME + idList);
+                 PreparedStatement remove = conn.prepareStatement("DELETE FROM " + TABLE_NAME + idList);
+                 PreparedStatement count = conn.prepareStatement(ADD_ARCHIVED_SQL)) {
+                BatchSupport.bindInList(copy, 1, ids, size);
+                copy.executeUpdate();
+                BatchSupport.bindInList(remove, 1, ids, size);
+                remove.executeUpdate();
+                count.setInt(1, ids.size());
+                count.executeUpdate();
+            }
+            return ids.stream().mapToInt(Integer::intValue).toArray();
+        });
+    }
+
+    // rows archived since the last compress, by any process
+    public int archivedSinceCompress() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(ARCHIVED_SINCE_COMPRESS_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // rebuild the inbox table and its indexes so the space of archived rows goes back to the file system,
+    // then reset the archived count. holds an exclusive lock on the table while it runs, so call it rarely
+    // and off the edt
+    public void compressTable() throws SQLException {
+        int archived = archivedSinceCompress();
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            try (CallableStatement cstmt = conn.prepareCall(COMPRESS_SQL)) {
+                cstmt.setString(1, DatabaseUtil.SCHEMA);
+                cstmt.setString(2, TABLE_NAME);
+                cstmt.execute();
+            }
+            try (PreparedStatement pstmt = conn.prepareStatement(COMPRESSED_SQL)) {
+                pstmt.setInt(1, archived);
+                pstmt.executeUpdate();
+            }
+        }
+    }
+
+    // make many notifications in one transaction. generated ids are set on the notifications
+    @Override
+    public void createAll(Collection<Notification> notifications) throws SQLException {
+        UnitOfWork.run(conn ->
+                BatchSupport.insertAll(conn, TABLE_NAME, INSERT_SQL, notifications, this::bindInsert, Notification::setId));
+        DataChangeNotifier.created(TABLE_NAME, Notification.class, notifications, Notification::getId, Notification::new);
+    }
+
+    @Override
+    public void updateAll(Collection<Notification> notifications) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, UPDATE_SQL, notifications, this::bindUpdate));
+        DataChangeNotifier.updated(TABLE_NAME, Notification.class, notifications, Notification::getId, Notification::new);
+    }
+
+    // mark many notifications as deleted, same as delete
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, DELETE_SQL, ids));
+        DataChangeNotifier.deleted(TABLE_NAME, Notification.class, ids);
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Notification notification) throws SQLException {
+        pstmt.setString(1, notification.getTitle());
+        pstmt.setString(2, notification.getDescription());
+        pstmt.setTimestamp(3, new Timestamp(notification.getTimestamp().getTime()));
+        pstmt.setBoolean(4, notification.isRead());
+        pstmt.setBoolean(5, notification.isDeleted());
+        pstmt.setString(6, notification.getDedupKey());
+    }
+
+    private void bindUpdate(PreparedStatement pstmt, Notification notification) throws SQLException {
+        pstmt.setString(1, notification.getTitle());
+        pstmt.setString(2, notification.getDescription());
+        pstmt.setBoolean(3, notification.isRead());
+        pstmt.setBoolean(4, notification.isDeleted());
+        pstmt.setInt(5, notification.getId());
+    }
+
+    // get all notification from database and return list
+    @Override
+    public List<Notification> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return NOTIFICATION_MAPPER.list(rs);
+        }
+    }
+
+    // every notification including deleted ones, oldest first, through a cursor. the table is never
+    // hard-deleted, so exports and batch jobs should use this instead of findAll
+    @Override
+    public Stream<Notification> stream(int fetchSize) throws SQLException {
+        return NOTIFICATION_MAPPER.stream(STREAM_SQL, fetchSize);
+    }
+
+    // number of unread notifications that are not deleted. answered from idx_notifications_unread alone
+    public int countUnread() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(COUNT_UNREAD_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    // unread notifications that are not deleted, newest first
+    public List<Notification> findUnread() throws SQLException {
+        return query(FIND_UNREAD_SQL);
+    }
+
+    // one page of notifications that are not deleted, newest first
+    public List<Notification> findActive(int limit, int offset) throws SQLException {
+        return query(FIND_ACTIVE_SQL, offset, limit);
+    }
+
+    // first page of notifications that are not deleted, newest first
+    public List<Notification> findActivePage(int limit) throws SQLException {
+        return query(FIRST_ACTIVE_PAGE_SQL, limit);
+    }
+
+    // next page after the row with (afterTimestamp, afterId), the last row of the previous page.
+    // a keyset seek on idx_notifications_inbox, so page n costs the same as page 1 unlike OFFSET
+    public List<Notification> findActivePage(java.util.Date afterTimestamp, int afterId, int limit) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(NEXT_ACTIVE_PAGE_SQL)) {
+            Timestamp after = new Timestamp(afterTimestamp.getTime());
+            pstmt.setTimestamp(1, after);
+            pstmt.setTimestamp(2, after);
+            pstmt.setInt(3, afterId);
+            pstmt.setInt(4, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return NOTIFICATION_MAPPER.list(rs);
+            }
+        }
+    }
+
+    private List<Notification> query(String sql, int... params) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                pstmt.setInt(i + 1, params[i]);
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return NOTIFICATION_MAPPER.list(rs);
+            }
+        }
+    }
+}
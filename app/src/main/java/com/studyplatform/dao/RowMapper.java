@@ -0,0 +1,185 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.util.DatabaseUtil;
+import com.studyplatform.util.DateUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+// maps result set rows to objects over an explicit column list. the columns are looked up by name once
+// per result set and then read by index, instead of a findColumn per getter per row.
+// a mapper with fewer columns is a projection, e.g. titles for a list, that never builds the full entity
+final class RowMapper<T> {
+    // builds one object from a row. reads the columns in the order the mapper lists them
+    interface Mapping<T> {
+        T map(Row row) throws SQLException;
+    }
+
+    private final Mapping<T> mapping;
+    private final String[] columns;
+    private final String columnList;
+
+    RowMapper(Mapping<T> mapping, String... columns) {
+        this.mapping = mapping;
+        this.columns = columns;
+        this.columnList = String.join(", ", columns);
+    }
+
+    // one column read as a string, e.g. names for a list view
+    static RowMapper<String> string(String column) {
+        return new RowMapper<>(Row::nextString, column);
+    }
+
+    // select list for the mapper's queries, e.g. "id, title, status"
+    String columns() {
+        return columnList;
+    }
+
+    List<T> list(ResultSet rs) throws SQLException {
+        List<T> result = new ArrayList<>();
+        Row row = row(rs);
+        while (rs.next()) {
+            result.add(map(row));
+        }
+        return result;
+    }
+
+    // first row, or null for an empty result
+    T first(ResultSet rs) throws SQLException {
+        return rs.next() ? map(row(rs)) : null;
+    }
+
+    // rows of sql mapped lazily from a forward-only, read-only cursor that fetches fetchSize rows at a time.
+    // the statement and connection stay open until the stream is closed or read to the end
+    Stream<T> stream(String sql, int fetchSize) throws SQLException {
+        Connection conn = DatabaseUtil.getConnection();
+        try {
+            PreparedStatement pstmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(fetchSize);
+            ResultSet rs = pstmt.executeQuery();
+            Cursor cursor = new Cursor(conn, pstmt, rs, row(rs));
+            return StreamSupport.stream(cursor, false).onClose(cursor::close);
+        } catch (SQLException | RuntimeException e) {
+            conn.close();
+            throw e;
+        }
+    }
+
+    private final class Cursor extends Spliterators.AbstractSpliterator<T> {
+        private final Connection conn;
+        private final PreparedStatement pstmt;
+        private final ResultSet rs;
+        private final Row row;
+        private boolean closed;
+
+        private Cursor(Connection conn, PreparedStatement pstmt, ResultSet rs, Row row) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.conn = conn;
+            this.pstmt = pstmt;
+            this.rs = rs;
+            this.row = row;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!rs.next()) {
+                    // give the connection back as soon as the last row is read
+                    close();
+                    return false;
+                }
+                action.accept(map(row));
+                return true;
+            } catch (SQLException e) {
+                close();
+                throw new UncheckedSQLException(e);
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try (conn; pstmt; rs) {
+                // closed in reverse order: result set, statement, connection
+            } catch (SQLException e) {
+                System.err.println("Error closing cursor: " + e.getMessage());
+            }
+        }
+    }
+
+    // rs with the column indexes resolved, for map() on each row
+    Row row(ResultSet rs) throws SQLException {
+        int[] indexes = new int[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            indexes[i] = rs.findColumn(columns[i]);
+        }
+        return new Row(rs, indexes, columnList);
+    }
+
+    // the current row of the result set as an object
+    T map(Row row) throws SQLException {
+        row.next = 0;
+        T value = mapping.map(row);
+        if (row.next != columns.length) {
+            throw new SQLException("Mapping read " + row.next + " of its columns: " + columnList);
+        }
+        return value;
+    }
+
+    static final class Row {
+        private final ResultSet rs;
+        private final int[] indexes;
+        private final String columnList;
+        private int next;
+
+        private Row(ResultSet rs, int[] indexes, String columnList) {
+            this.rs = rs;
+            this.indexes = indexes;
+            this.columnList = columnList;
+        }
+
+        int nextInt() throws SQLException {
+            return rs.getInt(nextIndex());
+        }
+
+        boolean nextBoolean() throws SQLException {
+            return rs.getBoolean(nextIndex());
+        }
+
+        String nextString() throws SQLException {
+            return rs.getString(nextIndex());
+        }
+
+        LocalDate nextDate() throws SQLException {
+            return DateUtil.toLocalDate(rs.getDate(nextIndex()));
+        }
+
+        java.util.Date nextTimestamp() throws SQLException {
+            Timestamp timestamp = rs.getTimestamp(nextIndex());
+            return timestamp == null ? null : new java.util.Date(timestamp.getTime());
+        }
+
+        private int nextIndex() throws SQLException {
+            if (next == indexes.length) {
+                throw new SQLException("Mapping read past its columns: " + columnList);
+            }
+            return indexes[next++];
+        }
+    }
+}
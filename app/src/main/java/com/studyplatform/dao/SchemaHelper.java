@@ -0,0 +1,187 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.util.DateUtil;
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.text.ParseException;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// ddl helpers for the schema migrations. safe to run again
+final class SchemaHelper {
+    // derby sqlstates for "index already exists" and "constraint on the same columns already exists"
+    private static final String INDEX_EXISTS = "X0Y32";
+    private static final String CONSTRAINT_EXISTS = "42Z93";
+    // derby sqlstate for "index does not exist"
+    private static final String INDEX_MISSING = "42X65";
+    // derby sqlstate for a unique or primary key violation
+    static final String DUPLICATE_KEY = "23505";
+
+    private SchemaHelper() {}
+
+    // create each index or constraint unless it already exists
+    static void createIndexes(String... createIndexSQL) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String sql : createIndexSQL) {
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    if (!INDEX_EXISTS.equals(e.getSQLState()) && !CONSTRAINT_EXISTS.equals(e.getSQLState())) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    // drop indexes that a newer index replaces. missing ones are skipped
+    static void dropIndexes(String... indexNames) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+            for (String indexName : indexNames) {
+                try {
+                    stmt.execute("DROP INDEX " + indexName);
+                } catch (SQLException e) {
+                    if (!INDEX_MISSING.equals(e.getSQLState())) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    // create a table that older versions of the app did not have
+    static void createTableIfMissing(String table, String createTableSQL) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (tableExists(conn, table)) {
+                return;
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(createTableSQL);
+            }
+        }
+    }
+
+    static boolean tableExists(Connection conn, String table) throws SQLException {
+        try (ResultSet rs = conn.getMetaData().getTables(null, DatabaseUtil.SCHEMA, table.toUpperCase(), null)) {
+            return rs.next();
+        }
+    }
+
+    // add a column to a table created by an older version of the app
+    static void addColumnIfMissing(String table, String column, String definition) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (columnExists(conn, table, column)) {
+                return;
+            }
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            }
+        }
+    }
+
+    static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        return columnType(conn, table, column) != null;
+    }
+
+    // sql type name of a column, or null if the column does not exist
+    static String columnType(Connection conn, String table, String column) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        try (ResultSet rs = metaData.getColumns(null, DatabaseUtil.SCHEMA, table.toUpperCase(), column.toUpperCase())) {
+            return rs.next() ? rs.getString("TYPE_NAME") : null;
+        }
+    }
+
+    // convert a column from the old VARCHAR MM-dd-yyyy format to DATE in one transaction.
+    // text that does not parse as a date becomes NULL. no-op once the column is already DATE
+    static void migrateDateColumn(String table, String column) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (!"VARCHAR".equals(columnType(conn, table, column))) {
+                return;
+            }
+
+            String tempColumn = column + "_new";
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + tempColumn + " DATE");
+
+                try (ResultSet rs = stmt.executeQuery("SELECT id, " + column + " FROM " + table);
+                     PreparedStatement update = conn.prepareStatement(
+                             "UPDATE " + table + " SET " + tempColumn + " = ? WHERE id = ?")) {
+                    while (rs.next()) {
+                        java.sql.Date date;
+                        try {
+                            date = DateUtil.toSqlDate(DateUtil.parse(rs.getString(2)));
+                        } catch (ParseException e) {
+                            date = null;
+                        }
+                        update.setDate(1, date);
+                        update.setInt(2, rs.getInt(1));
+                        update.addBatch();
+                    }
+                    update.executeBatch();
+                }
+
+                stmt.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+                stmt.execute("RENAME COLUMN " + table + "." + tempColumn + " TO " + column);
+                conn.commit();
+                System.out.println("Migrated " + table + "." + column + " to DATE.");
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    // move an old comma-joined VARCHAR column into one child row per value, then drop the column.
+    // runs in one transaction and is a no-op once the column is gone
+    static void migrateJoinedColumn(String table, String column,
+                                    String childTable, String parentIdColumn, String valueColumn) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (!columnExists(conn, table, column)) {
+                return;
+            }
+
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                try (ResultSet rs = stmt.executeQuery("SELECT id, " + column + " FROM " + table);
+                     PreparedStatement insert = conn.prepareStatement(
+                             "INSERT INTO " + childTable + " (" + parentIdColumn + ", " + valueColumn + ") VALUES (?, ?)")) {
+                    while (rs.next()) {
+                        String joined = rs.getString(2);
+                        if (joined == null || joined.isEmpty()) {
+                            continue;
+                        }
+                        // the child table key does not allow the same value twice for one parent
+                        Set<String> values = new LinkedHashSet<>();
+                        for (String value : joined.split(",")) {
+                            if (!value.isEmpty()) {
+                                values.add(value);
+                            }
+                        }
+                        for (String value : values) {
+                            insert.setInt(1, rs.getInt(1));
+                            insert.setString(2, value);
+                            insert.addBatch();
+                        }
+                    }
+                    insert.executeBatch();
+                }
+
+                stmt.execute("ALTER TABLE " + table + " DROP COLUMN " + column);
+                conn.commit();
+                System.out.println("Migrated " + table + "." + column + " to " + childTable + ".");
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+}
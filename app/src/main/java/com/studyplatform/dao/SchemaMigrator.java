@@ -0,0 +1,258 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+// brings the schema up to date, once per process. SCHEMA_VERSION records every migration applied to the
+// database, so a start on a current schema is one metadata lookup and one query, with no ddl at all.
+// to change the schema add a migration at the end of MIGRATIONS with the next version, e.g. for a new index
+//     Migration.sql(7, "index tasks by status", "CREATE INDEX idx_tasks_status ON TASKS (status)")
+// and never edit one that has shipped. migrations are written to be safe to run again (tables and
+// columns are checked first, existing indexes are skipped), so databases made before SCHEMA_VERSION
+// existed, or two processes migrating at once, end up with the same schema
+public final class SchemaMigrator {
+    private static final String TABLE_NAME = "SCHEMA_VERSION";
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE " + TABLE_NAME + " (" +
+            "version INT PRIMARY KEY, " +
+            "description VARCHAR(255), " +
+            "applied_at TIMESTAMP)";
+    private static final String CURRENT_VERSION_SQL = "SELECT MAX(version) FROM " + TABLE_NAME;
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME + " (version, description, applied_at) VALUES (?, ?, ?)";
+
+    // one step of the schema history
+    interface Step {
+        void apply() throws SQLException;
+    }
+
+    static final class Migration {
+        private final int version;
+        private final String description;
+        private final Step step;
+
+        Migration(int version, String description, Step step) {
+            this.version = version;
+            this.description = description;
+            this.step = step;
+        }
+
+        // a migration that only creates indexes or constraints
+        static Migration sql(int version, String description, String... createIndexSQL) {
+            return new Migration(version, description, () -> SchemaHelper.createIndexes(createIndexSQL));
+        }
+    }
+
+    // in version order. the ddl is written out here rather than taken from the daos, so a migration
+    // does the same thing on every database however the daos change later
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "create tables", SchemaMigrator::createTables),
+            new Migration(2, "upgrade columns made by older versions", SchemaMigrator::upgradeColumns),
+            Migration.sql(3, "index tasks, tutors, groups and courseworks",
+                    // title lookups and due date range scans
+                    "CREATE INDEX idx_tasks_title ON TASKS (title)",
+                    "CREATE INDEX idx_tasks_due_date ON TASKS (due_date)",
+                    // lookups by name, class and available date
+                    "CREATE INDEX idx_tutors_name ON TUTORS (name)",
+                    "CREATE INDEX idx_tutors_class ON TUTORS (tutor_class)",
+                    "CREATE INDEX idx_tutors_available_date ON TUTORS (available_date)",
+                    // name and member lookups
+                    "CREATE INDEX idx_groups_name ON GROUPS (name)",
+                    "CREATE INDEX idx_group_members_member ON GROUP_MEMBERS (member_name, group_id)",
+                    "CREATE INDEX idx_courseworks_due_date ON COURSEWORKS (due_date)"),
+            new Migration(4, "index notifications", SchemaMigrator::indexNotifications),
+            new Migration(5, "create notification archive", () ->
+                    // same columns, ids kept from the inbox table, plus when the row was moved
+                    SchemaHelper.createTableIfMissing("NOTIFICATIONS_ARCHIVE", "CREATE TABLE NOTIFICATIONS_ARCHIVE (" +
+                            "id INT PRIMARY KEY, " +
+                            "title VARCHAR(255), " +
+                            "description VARCHAR(1000), " +
+                            "timestamp TIMESTAMP, " +
+                            "is_read BOOLEAN, " +
+                            "is_deleted BOOLEAN, " +
+                            "dedup_key VARCHAR(255), " +
+                            "archived_at TIMESTAMP)")),
+            new Migration(6, "track notification compress", SchemaMigrator::createNotificationRetention));
+
+    private static final int LATEST_VERSION = MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+
+    // set once this process has seen the latest version
+    private static volatile boolean current;
+    // version the database had before this process migrated it
+    private static int startVersion;
+
+    private SchemaMigrator() {}
+
+    // apply the migrations the database has not had yet and return the version it had before,
+    // 0 for a new database. cheap to call again, every controller does
+    public static int migrate() throws SQLException {
+        if (current) {
+            return startVersion;
+        }
+        synchronized (SchemaMigrator.class) {
+            if (current) {
+                return startVersion;
+            }
+            int version = currentVersion();
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version > version) {
+                    apply(migration);
+                }
+            }
+            startVersion = version;
+            current = true;
+            return version;
+        }
+    }
+
+    // highest version applied, 0 for a new database or one made before SCHEMA_VERSION
+    private static int currentVersion() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            if (!SchemaHelper.tableExists(conn, TABLE_NAME)) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute(CREATE_TABLE_SQL);
+                } catch (SQLException e) {
+                    // another process created it first
+                    if (!SchemaHelper.tableExists(conn, TABLE_NAME)) {
+                        throw e;
+                    }
+                }
+                return 0;
+            }
+            try (Statement stmt = conn.createStatement();
+                 ResultSet rs = stmt.executeQuery(CURRENT_VERSION_SQL)) {
+                int version = rs.next() ? rs.getInt(1) : 0;
+                if (version > LATEST_VERSION) {
+                    System.err.println("Database schema version " + version + " is newer than this app's " + LATEST_VERSION);
+                }
+                return version;
+            }
+        }
+    }
+
+    // the tables as the app creates them today. databases made before SCHEMA_VERSION keep the tables
+    // they have, and migration 2 brings their columns up to date. parents before children for the foreign keys
+    private static void createTables() throws SQLException {
+        SchemaHelper.createTableIfMissing("TASKS", "CREATE TABLE TASKS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "title VARCHAR(255), " +
+                "description VARCHAR(1000), " +
+                "type VARCHAR(100), " +
+                "due_date DATE, " +
+                "status VARCHAR(50))");
+        SchemaHelper.createTableIfMissing("NOTIFICATIONS", "CREATE TABLE NOTIFICATIONS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "title VARCHAR(255), " +
+                "description VARCHAR(1000), " +
+                "timestamp TIMESTAMP, " +
+                "is_read BOOLEAN, " +
+                "is_deleted BOOLEAN DEFAULT FALSE, " +
+                "dedup_key VARCHAR(255))");
+        SchemaHelper.createTableIfMissing("TUTORS", "CREATE TABLE TUTORS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "name VARCHAR(255), " +
+                "tutor_class VARCHAR(255), " +
+                "available_date DATE, " +
+                "location VARCHAR(255), " +
+                "scheduled BOOLEAN)");
+        SchemaHelper.createTableIfMissing("GROUPS", "CREATE TABLE GROUPS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "name VARCHAR(255), " +
+                "meeting_time TIMESTAMP)");
+        // one row per member / file. the identity id keeps insertion order, the primary key stops duplicates
+        // and deleting a group removes its rows
+        SchemaHelper.createTableIfMissing("GROUP_MEMBERS", "CREATE TABLE GROUP_MEMBERS (" +
+                "id INT GENERATED ALWAYS AS IDENTITY, " +
+                "group_id INT NOT NULL, " +
+                "member_name VARCHAR(255) NOT NULL, " +
+                "PRIMARY KEY (group_id, member_name), " +
+                "FOREIGN KEY (group_id) REFERENCES GROUPS(id) ON DELETE CASCADE)");
+        SchemaHelper.createTableIfMissing("GROUP_FILES", "CREATE TABLE GROUP_FILES (" +
+                "id INT GENERATED ALWAYS AS IDENTITY, " +
+                "group_id INT NOT NULL, " +
+                "file_name VARCHAR(255) NOT NULL, " +
+                "PRIMARY KEY (group_id, file_name), " +
+                "FOREIGN KEY (group_id) REFERENCES GROUPS(id) ON DELETE CASCADE)");
+        SchemaHelper.createTableIfMissing("COURSES", "CREATE TABLE COURSES (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "name VARCHAR(255) UNIQUE NOT NULL)");
+        SchemaHelper.createTableIfMissing("STUDY_PLANS", "CREATE TABLE STUDY_PLANS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "course_id INT, " +
+                "name VARCHAR(255), " +
+                "FOREIGN KEY (course_id) REFERENCES COURSES(id))");
+        SchemaHelper.createTableIfMissing("COURSEWORKS", "CREATE TABLE COURSEWORKS (" +
+                "id INT PRIMARY KEY GENERATED ALWAYS AS IDENTITY, " +
+                "study_plan_id INT, " +
+                "name VARCHAR(255), " +
+                "details VARCHAR(500), " +
+                "due_date DATE, " +
+                "status VARCHAR(50), " +
+                "FOREIGN KEY (study_plan_id) REFERENCES STUDY_PLANS(id))");
+    }
+
+    // old VARCHAR MM-dd-yyyy dates become DATE, comma-joined group members and files move into their
+    // child tables, and notifications get the dedup key. each is a no-op on tables migration 1 created
+    private static void upgradeColumns() throws SQLException {
+        SchemaHelper.migrateDateColumn("TASKS", "due_date");
+        SchemaHelper.migrateDateColumn("TUTORS", "available_date");
+        SchemaHelper.migrateDateColumn("COURSEWORKS", "due_date");
+        SchemaHelper.migrateJoinedColumn("GROUPS", "members", "GROUP_MEMBERS", "group_id", "member_name");
+        SchemaHelper.migrateJoinedColumn("GROUPS", "files", "GROUP_FILES", "group_id", "file_name");
+        SchemaHelper.addColumnIfMissing("NOTIFICATIONS", "dedup_key", "VARCHAR(255)");
+    }
+
+    private static void indexNotifications() throws SQLException {
+        // replaced by idx_notifications_inbox, which adds id for a stable keyset order
+        SchemaHelper.dropIndexes("idx_notifications_active");
+        SchemaHelper.createIndexes(
+                // unique constraint (not unique index) so the many old rows with null keys are allowed
+                "ALTER TABLE NOTIFICATIONS ADD CONSTRAINT uq_notifications_dedup_key UNIQUE (dedup_key)",
+                // unread badge count and unread list, newest first, without touching the table for the count
+                "CREATE INDEX idx_notifications_unread ON NOTIFICATIONS (is_deleted, is_read, timestamp DESC)",
+                // inbox pages (read and unread) newest first without a sort. id breaks timestamp ties
+                "CREATE INDEX idx_notifications_inbox ON NOTIFICATIONS (is_deleted, timestamp DESC, id DESC)");
+    }
+
+    // a single row counting notifications archived since the inbox table was last compressed
+    private static void createNotificationRetention() throws SQLException {
+        SchemaHelper.createTableIfMissing("NOTIFICATIONS_RETENTION", "CREATE TABLE NOTIFICATIONS_RETENTION (" +
+                "id INT PRIMARY KEY, " +
+                "archived_since_compress INT NOT NULL, " +
+                "compressed_at TIMESTAMP)");
+        try (Connection conn = DatabaseUtil.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("INSERT INTO NOTIFICATIONS_RETENTION (id, archived_since_compress) VALUES (1, 0)");
+        } catch (SQLException e) {
+            // another process added the row first
+            if (!SchemaHelper.DUPLICATE_KEY.equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+    }
+
+    private static void apply(Migration migration) throws SQLException {
+        long start = System.nanoTime();
+        migration.step.apply();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            pstmt.setInt(1, migration.version);
+            pstmt.setString(2, migration.description);
+            pstmt.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+            pstmt.executeUpdate();
+        } catch (SQLException e) {
+            // another process applied the same migration at the same time
+            if (!SchemaHelper.DUPLICATE_KEY.equals(e.getSQLState())) {
+                throw e;
+            }
+        }
+        System.out.println("Applied schema migration " + migration.version + " (" + migration.description + ") in " +
+                (System.nanoTime() - start) / 1_000_000 + " ms.");
+    }
+}
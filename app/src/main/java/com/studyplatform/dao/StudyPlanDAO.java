@@ -0,0 +1,611 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.models.StudyPlan;
+import com.studyplatform.models.Coursework;
+import com.studyplatform.util.DatabaseUtil;
+import com.studyplatform.util.DateUtil;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class StudyPlanDAO implements BaseDAO<StudyPlan> {
+    private static final String TABLE_NAME = "STUDY_PLANS";
+    private static final String COURSEWORK_TABLE_NAME = "COURSEWORKS";
+    private static final String COURSES_TABLE_NAME = "COURSES";
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE_NAME + " (course_id, name) VALUES (?, ?)";
+    private static final String UPDATE_SQL = "UPDATE " + TABLE_NAME + " SET course_id = ?, name = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final String INSERT_COURSEWORK_SQL = "INSERT INTO " + COURSEWORK_TABLE_NAME +
+            " (study_plan_id, name, details, due_date, status) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_COURSEWORK_SQL = "UPDATE " + COURSEWORK_TABLE_NAME +
+            " SET study_plan_id = ?, name = ?, details = ?, due_date = ?, status = ? WHERE id = ?";
+    // Scoped to the plan, so a coursework that moved to another plan in the same update is kept
+    private static final String DELETE_COURSEWORK_SQL =
+            "DELETE FROM " + COURSEWORK_TABLE_NAME + " WHERE id = ? AND study_plan_id = ?";
+    private static final String DELETE_PLAN_COURSEWORKS_SQL =
+            "DELETE FROM " + COURSEWORK_TABLE_NAME + " WHERE study_plan_id = ?";
+    private static final String UPDATE_COURSEWORK_FIELDS_SQL = "UPDATE " + COURSEWORK_TABLE_NAME +
+            " SET name = ?, details = ?, due_date = ?, status = ? WHERE id = ?";
+    private static final String DELETE_COURSEWORK_BY_ID_SQL = "DELETE FROM " + COURSEWORK_TABLE_NAME + " WHERE id = ?";
+    private static final String INSERT_COURSE_SQL = "INSERT INTO " + COURSES_TABLE_NAME + " (name) VALUES (?)";
+    private static final String COURSE_ID_SQL = "SELECT id FROM " + COURSES_TABLE_NAME + " WHERE name = ?";
+    private static final RowMapper<Coursework> COURSEWORK_MAPPER = new RowMapper<>(row -> {
+        Coursework coursework = new Coursework();
+        coursework.setId(row.nextInt());
+        coursework.setStudyPlanId(row.nextInt());
+        coursework.setName(row.nextString());
+        coursework.setDetails(row.nextString());
+        coursework.setDueDate(row.nextDate());
+        coursework.setStatus(row.nextString());
+        return coursework;
+    }, "id", "study_plan_id", "name", "details", "due_date", "status");
+    private static final RowMapper<String> COURSE_NAME_MAPPER = RowMapper.string("name");
+    private static final String ALL_COURSES_SQL =
+            "SELECT " + COURSE_NAME_MAPPER.columns() + " FROM " + COURSES_TABLE_NAME + " ORDER BY name";
+    private static final String READ_SQL = "SELECT sp.id, sp.name, c.name AS course_name " +
+            "FROM " + TABLE_NAME + " sp " +
+            "JOIN " + COURSES_TABLE_NAME + " c ON sp.course_id = c.id " +
+            "WHERE sp.id = ?";
+    private static final String PLANS_FOR_COURSE_SQL = "SELECT sp.id, sp.name " +
+            "FROM " + TABLE_NAME + " sp " +
+            "JOIN " + COURSES_TABLE_NAME + " c ON sp.course_id = c.id " +
+            "WHERE c.name = ? ORDER BY sp.id";
+    // Courseworks first, then the plan, both matched by course and plan name
+    private static final String DELETE_NAMED_PLAN_COURSEWORKS_SQL = "DELETE FROM " + COURSEWORK_TABLE_NAME +
+            " WHERE study_plan_id IN (SELECT id FROM " + TABLE_NAME + " WHERE course_id = ? AND name = ?)";
+    private static final String DELETE_NAMED_PLAN_SQL = "DELETE FROM " + TABLE_NAME + " WHERE course_id = ? AND name = ?";
+
+    // Max plan ids bound into a single IN (...) list
+    private static final int IN_BATCH_SIZE = 512;
+
+    // Plans joined to their courseworks so a whole object graph comes back in one query
+    private static final String PLAN_WITH_COURSEWORK_SELECT =
+            "SELECT sp.id, sp.name, c.name AS course_name, " +
+            "cw.id AS cw_id, cw.name AS cw_name, cw.details AS cw_details, " +
+            "cw.due_date AS cw_due_date, cw.status AS cw_status " +
+            "FROM " + TABLE_NAME + " sp " +
+            "JOIN " + COURSES_TABLE_NAME + " c ON sp.course_id = c.id " +
+            "LEFT JOIN " + COURSEWORK_TABLE_NAME + " cw ON cw.study_plan_id = sp.id ";
+    private static final String COURSEWORK_DUE_BETWEEN_SQL = "SELECT " + COURSEWORK_MAPPER.columns() +
+            " FROM " + COURSEWORK_TABLE_NAME + " WHERE due_date >= ? AND due_date < ? ORDER BY due_date";
+    private static final String FIND_ALL_SQL = PLAN_WITH_COURSEWORK_SELECT + "ORDER BY sp.id, cw.id";
+    private static final String FIND_FOR_COURSE_SQL = PLAN_WITH_COURSEWORK_SELECT + "WHERE c.name = ? ORDER BY sp.id, cw.id";
+
+    public void addCourse(String name) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_COURSE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            pstmt.setString(1, name);
+            
+            pstmt.executeUpdate();
+            
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    public int getCourseId(String courseName) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            return getCourseId(conn, courseName);
+        }
+    }
+
+    // Course lookup on the caller's connection, so it runs inside the caller's transaction
+    private int getCourseId(Connection conn, String courseName) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(COURSE_ID_SQL)) {
+            pstmt.setString(1, courseName);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt("id");
+                }
+            }
+
+            throw new SQLException("Course not found: " + courseName);
+        }
+    }
+
+    // the plan and its courseworks are written in one transaction
+    @Override
+    public void create(StudyPlan studyPlan) throws SQLException {
+        createAll(List.of(studyPlan));
+    }
+
+    // one coursework row and the plan it belongs to
+    private record PlanCoursework(int studyPlanId, Coursework coursework) {}
+
+    // a saved coursework that is no longer in its plan's list
+    private record RemovedCoursework(int studyPlanId, int courseworkId) {}
+
+    // batch insert coursework rows and write their generated ids back
+    private void insertCourseworks(Connection conn, List<PlanCoursework> rows) throws SQLException {
+        for (PlanCoursework row : rows) {
+            row.coursework().setStudyPlanId(row.studyPlanId());
+        }
+
+        BatchSupport.insertAll(conn, COURSEWORK_TABLE_NAME, INSERT_COURSEWORK_SQL, rows,
+                (pstmt, row) -> {
+                    pstmt.setInt(1, row.studyPlanId());
+                    pstmt.setString(2, row.coursework().getName());
+                    pstmt.setString(3, row.coursework().getDetails());
+                    pstmt.setDate(4, DateUtil.toSqlDate(row.coursework().getDueDate()));
+                    pstmt.setString(5, row.coursework().getStatus());
+                },
+                (row, id) -> row.coursework().setId(id));
+    }
+
+    // batch update coursework rows, including the plan they belong to
+    private void updateCourseworks(Connection conn, List<PlanCoursework> rows) throws SQLException {
+        BatchSupport.executeAll(conn, UPDATE_COURSEWORK_SQL, rows, (pstmt, row) -> {
+            pstmt.setInt(1, row.studyPlanId());
+            pstmt.setString(2, row.coursework().getName());
+            pstmt.setString(3, row.coursework().getDetails());
+            pstmt.setDate(4, DateUtil.toSqlDate(row.coursework().getDueDate()));
+            pstmt.setString(5, row.coursework().getStatus());
+            pstmt.setInt(6, row.coursework().getId());
+        });
+        for (PlanCoursework row : rows) {
+            row.coursework().setStudyPlanId(row.studyPlanId());
+        }
+    }
+
+    private static List<PlanCoursework> planCourseworks(Collection<StudyPlan> studyPlans) {
+        List<PlanCoursework> rows = new ArrayList<>();
+        for (StudyPlan studyPlan : studyPlans) {
+            for (Coursework coursework : studyPlan.getCourseworkList()) {
+                rows.add(new PlanCoursework(studyPlan.getId(), coursework));
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public StudyPlan read(int id) throws SQLException {
+        StudyPlan studyPlan = null;
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(READ_SQL)) {
+            pstmt.setInt(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    studyPlan = new StudyPlan();
+                    studyPlan.setId(rs.getInt("id"));
+                    studyPlan.setName(rs.getString("name"));
+                    studyPlan.setCourse(rs.getString("course_name"));
+                }
+            }
+        }
+
+        if (studyPlan != null) {
+            // Fetch associated courseworks
+            loadCourseworks(studyPlan);
+        }
+        return studyPlan;
+    }
+
+    // Load the courseworks of a plan that was fetched without them
+    public void loadCourseworks(StudyPlan studyPlan) throws SQLException {
+        List<StudyPlan> plans = new ArrayList<>();
+        plans.add(studyPlan);
+        loadCourseworks(plans);
+    }
+
+    // Load courseworks for many plans with one IN (...) query per batch instead of one query per plan
+    public void loadCourseworks(List<StudyPlan> studyPlans) throws SQLException {
+        Map<Integer, StudyPlan> plansById = new HashMap<>();
+        for (StudyPlan studyPlan : studyPlans) {
+            studyPlan.getCourseworkList().clear();
+            studyPlan.setCourseworkLoaded(true);
+            plansById.put(studyPlan.getId(), studyPlan);
+        }
+        if (plansById.isEmpty()) {
+            return;
+        }
+
+        List<Integer> ids = new ArrayList<>(plansById.keySet());
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            for (int start = 0; start < ids.size(); start += IN_BATCH_SIZE) {
+                List<Integer> batch = ids.subList(start, Math.min(start + IN_BATCH_SIZE, ids.size()));
+                int size = BatchSupport.inListSize(batch.size());
+                String sql = "SELECT " + COURSEWORK_MAPPER.columns() + " " +
+                             "FROM " + COURSEWORK_TABLE_NAME + " " +
+                             "WHERE study_plan_id IN (" + BatchSupport.placeholders(size) + ") " +
+                             "ORDER BY id";
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                    BatchSupport.bindInList(pstmt, 1, batch, size);
+
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        for (Coursework coursework : COURSEWORK_MAPPER.list(rs)) {
+                            plansById.get(coursework.getStudyPlanId()).addCoursework(coursework);
+                        }
+                    }
+                }
+            }
+        }
+        for (StudyPlan studyPlan : studyPlans) {
+            studyPlan.markCourseworksSaved();
+        }
+    }
+
+    // Build plans and their courseworks in one pass over a plan LEFT JOIN coursework result ordered by plan id
+    private List<StudyPlan> readPlansWithCourseworks(ResultSet rs) throws SQLException {
+        Map<Integer, StudyPlan> plansById = new LinkedHashMap<>();
+        while (rs.next()) {
+            int planId = rs.getInt("id");
+            StudyPlan studyPlan = plansById.get(planId);
+            if (studyPlan == null) {
+                studyPlan = new StudyPlan();
+                studyPlan.setId(planId);
+                studyPlan.setName(rs.getString("name"));
+                studyPlan.setCourse(rs.getString("course_name"));
+                plansById.put(planId, studyPlan);
+            }
+
+            int courseworkId = rs.getInt("cw_id");
+            if (!rs.wasNull()) {
+                Coursework coursework = new Coursework();
+                coursework.setId(courseworkId);
+                coursework.setName(rs.getString("cw_name"));
+                coursework.setDetails(rs.getString("cw_details"));
+                coursework.setDueDate(DateUtil.toLocalDate(rs.getDate("cw_due_date")));
+                coursework.setStatus(rs.getString("cw_status"));
+                coursework.setStudyPlanId(planId);
+                studyPlan.addCoursework(coursework);
+            }
+        }
+        for (StudyPlan studyPlan : plansById.values()) {
+            studyPlan.markCourseworksSaved();
+        }
+        return new ArrayList<>(plansById.values());
+    }
+
+    // Courseworks are replaced too, unless the plan was loaded without them
+    @Override
+    public void update(StudyPlan studyPlan) throws SQLException {
+        updateAll(List.of(studyPlan));
+    }
+
+    // Courseworks are deleted first, they reference the plan
+    @Override
+    public void delete(int id) throws SQLException {
+        deleteAll(new int[] {id});
+    }
+
+    // Look up the courses, insert the plans, then all of their courseworks, in one transaction
+    @Override
+    public void createAll(Collection<StudyPlan> studyPlans) throws SQLException {
+        UnitOfWork.run(conn -> {
+            Map<String, Integer> courseIds = getCourseIds(conn, studyPlans);
+            BatchSupport.insertAll(conn, TABLE_NAME, INSERT_SQL, studyPlans,
+                    (pstmt, studyPlan) -> bindPlan(pstmt, studyPlan, courseIds), StudyPlan::setId);
+            insertCourseworks(conn, planCourseworks(studyPlans));
+        });
+        for (StudyPlan studyPlan : studyPlans) {
+            studyPlan.markCourseworksSaved();
+        }
+        DataChangeNotifier.created(TABLE_NAME, StudyPlan.class, studyPlans, StudyPlan::getId, StudyPlan::new);
+        DataChangeNotifier.created(COURSEWORK_TABLE_NAME, Coursework.class, courseworksOf(studyPlans), Coursework::getId, Coursework::new);
+    }
+
+    // Courseworks are diffed against what was last read or written: new ones are inserted, changed or moved
+    // ones updated and removed ones deleted, so unchanged rows are not touched and ids stay the same
+    @Override
+    public void updateAll(Collection<StudyPlan> studyPlans) throws SQLException {
+        List<StudyPlan> loaded = new ArrayList<>();
+        for (StudyPlan studyPlan : studyPlans) {
+            if (studyPlan.isCourseworkLoaded()) {
+                loaded.add(studyPlan);
+            }
+        }
+
+        List<PlanCoursework> inserts = new ArrayList<>();
+        List<PlanCoursework> updates = new ArrayList<>();
+        Set<Integer> updatedIds = new HashSet<>();
+        for (PlanCoursework row : planCourseworks(loaded)) {
+            Coursework coursework = row.coursework();
+            if (coursework.getId() == 0) {
+                inserts.add(row);
+            } else if (coursework.isDirty() || coursework.getStudyPlanId() != row.studyPlanId()) {
+                updates.add(row);
+                updatedIds.add(coursework.getId());
+            }
+        }
+        List<RemovedCoursework> deletes = new ArrayList<>();
+        for (StudyPlan studyPlan : loaded) {
+            for (int courseworkId : studyPlan.getRemovedCourseworkIds()) {
+                if (!updatedIds.contains(courseworkId)) {
+                    deletes.add(new RemovedCoursework(studyPlan.getId(), courseworkId));
+                }
+            }
+        }
+
+        UnitOfWork.run(conn -> {
+            Map<String, Integer> courseIds = getCourseIds(conn, studyPlans);
+            BatchSupport.executeAll(conn, UPDATE_SQL, studyPlans, (pstmt, studyPlan) -> {
+                bindPlan(pstmt, studyPlan, courseIds);
+                pstmt.setInt(3, studyPlan.getId());
+            });
+            // Moved courseworks are updated before the old plan's deletes run
+            updateCourseworks(conn, updates);
+            BatchSupport.executeAll(conn, DELETE_COURSEWORK_SQL, deletes, (pstmt, removed) -> {
+                pstmt.setInt(1, removed.courseworkId());
+                pstmt.setInt(2, removed.studyPlanId());
+            });
+            insertCourseworks(conn, inserts);
+        });
+        for (StudyPlan studyPlan : loaded) {
+            studyPlan.markCourseworksSaved();
+        }
+
+        DataChangeNotifier.updated(TABLE_NAME, StudyPlan.class, studyPlans, StudyPlan::getId, StudyPlan::new);
+        DataChangeNotifier.deleted(COURSEWORK_TABLE_NAME, Coursework.class,
+                deletes.stream().mapToInt(RemovedCoursework::courseworkId).toArray());
+        DataChangeNotifier.created(COURSEWORK_TABLE_NAME, Coursework.class,
+                inserts.stream().map(PlanCoursework::coursework).toList(), Coursework::getId, Coursework::new);
+        DataChangeNotifier.updated(COURSEWORK_TABLE_NAME, Coursework.class,
+                updates.stream().map(PlanCoursework::coursework).toList(), Coursework::getId, Coursework::new);
+    }
+
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        UnitOfWork.run(conn -> {
+            BatchSupport.executeAll(conn, DELETE_PLAN_COURSEWORKS_SQL, ids);
+            BatchSupport.executeAll(conn, DELETE_SQL, ids);
+        });
+        DataChangeNotifier.deleted(TABLE_NAME, StudyPlan.class, ids);
+        DataChangeNotifier.invalidated(COURSEWORK_TABLE_NAME, Coursework.class);
+    }
+
+    private static List<Coursework> courseworksOf(Collection<StudyPlan> studyPlans) {
+        List<Coursework> courseworks = new ArrayList<>();
+        for (StudyPlan studyPlan : studyPlans) {
+            courseworks.addAll(studyPlan.getCourseworkList());
+        }
+        return courseworks;
+    }
+
+    private static void bindPlan(PreparedStatement pstmt, StudyPlan studyPlan, Map<String, Integer> courseIds)
+            throws SQLException {
+        pstmt.setInt(1, courseIds.get(studyPlan.getCourse()));
+        pstmt.setString(2, studyPlan.getName());
+    }
+
+    // Course ids for the plans, one lookup per distinct course
+    private Map<String, Integer> getCourseIds(Connection conn, Collection<StudyPlan> studyPlans) throws SQLException {
+        Map<String, Integer> courseIds = new HashMap<>();
+        for (StudyPlan studyPlan : studyPlans) {
+            if (!courseIds.containsKey(studyPlan.getCourse())) {
+                courseIds.put(studyPlan.getCourse(), getCourseId(conn, studyPlan.getCourse()));
+            }
+        }
+        return courseIds;
+    }
+
+    @Override
+    public List<StudyPlan> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return readPlansWithCourseworks(rs);
+        }
+    }
+
+    public void addCourseworkToStudyPlan(int studyPlanId, Coursework coursework) throws SQLException {
+        // Add coursework directly to the COURSEWORKS table with the study plan ID
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_COURSEWORK_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            pstmt.setInt(1, studyPlanId);
+            pstmt.setString(2, coursework.getName());
+            pstmt.setString(3, coursework.getDetails());
+            pstmt.setDate(4, DateUtil.toSqlDate(coursework.getDueDate()));
+            pstmt.setString(5, coursework.getStatus());
+            
+            pstmt.executeUpdate();
+            
+            // Retrieve the generated coursework ID
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    int courseworkId = generatedKeys.getInt(1);
+                    coursework.setId(courseworkId);
+                } else {
+                    throw new SQLException("Creating coursework failed, no ID obtained.");
+                }
+            }
+        }
+        coursework.setStudyPlanId(studyPlanId);
+        DataChangeNotifier.created(COURSEWORK_TABLE_NAME, Coursework.class, List.of(coursework), Coursework::getId, Coursework::new);
+    }
+
+    public void updateCoursework(int studyPlanId, Coursework coursework) throws SQLException {
+        // Update the coursework in the COURSEWORKS table
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_COURSEWORK_FIELDS_SQL)) {
+            
+            pstmt.setString(1, coursework.getName());
+            pstmt.setString(2, coursework.getDetails());
+            pstmt.setDate(3, DateUtil.toSqlDate(coursework.getDueDate()));
+            pstmt.setString(4, coursework.getStatus());
+            pstmt.setInt(5, coursework.getId());
+            
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.updated(COURSEWORK_TABLE_NAME, Coursework.class, List.of(coursework), Coursework::getId, Coursework::new);
+    }
+
+    public void removeCourseworkFromStudyPlan(int studyPlanId, int courseworkId) throws SQLException {
+        // Delete the specific coursework from the COURSEWORKS table
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement deleteCourseworkStmt = conn.prepareStatement(DELETE_COURSEWORK_SQL)) {
+            
+            deleteCourseworkStmt.setInt(1, courseworkId);
+            deleteCourseworkStmt.setInt(2, studyPlanId);
+            deleteCourseworkStmt.executeUpdate();
+        }
+        DataChangeNotifier.deleted(COURSEWORK_TABLE_NAME, Coursework.class, new int[] {courseworkId});
+    }
+
+    // Method to get all courses
+    public List<String> getAllCourses() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(ALL_COURSES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return COURSE_NAME_MAPPER.list(rs);
+        }
+    }
+
+    // Method to get study plans for a specific course, with their courseworks
+    public List<StudyPlan> getStudyPlansForCourse(String courseName) throws SQLException {
+        return getStudyPlansForCourse(courseName, true);
+    }
+
+    // Method to get study plans for a specific course. Without courseworks only the plan rows are read,
+    // and loadCourseworks can fill them in later
+    public List<StudyPlan> getStudyPlansForCourse(String courseName, boolean includeCourseworks) throws SQLException {
+        if (includeCourseworks) {
+            try (Connection conn = DatabaseUtil.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(FIND_FOR_COURSE_SQL)) {
+                pstmt.setString(1, courseName);
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return readPlansWithCourseworks(rs);
+                }
+            }
+        }
+
+        List<StudyPlan> studyPlans = new ArrayList<>();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(PLANS_FOR_COURSE_SQL)) {
+            
+            pstmt.setString(1, courseName);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    StudyPlan studyPlan = new StudyPlan();
+                    studyPlan.setId(rs.getInt("id"));
+                    studyPlan.setName(rs.getString("name"));
+                    studyPlan.setCourse(courseName);
+                    studyPlan.setCourseworkLoaded(false);
+                    
+                    studyPlans.add(studyPlan);
+                }
+            }
+        }
+        
+        return studyPlans;
+    }
+
+    // Method to add a coursework to a study plan
+    public void addCourseworkToStudyPlan(StudyPlan studyPlan, Coursework coursework) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_COURSEWORK_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            pstmt.setInt(1, studyPlan.getId());
+            pstmt.setString(2, coursework.getName());
+            pstmt.setString(3, coursework.getDetails());
+            pstmt.setDate(4, DateUtil.toSqlDate(coursework.getDueDate()));
+            pstmt.setString(5, coursework.getStatus());
+            
+            pstmt.executeUpdate();
+            
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    coursework.setId(generatedKeys.getInt(1));
+                }
+            }
+            
+            // Add to study plan's coursework list
+            coursework.setStudyPlanId(studyPlan.getId());
+            studyPlan.addCoursework(coursework);
+            studyPlan.markCourseworkSaved(coursework);
+        }
+        DataChangeNotifier.created(COURSEWORK_TABLE_NAME, Coursework.class, List.of(coursework), Coursework::getId, Coursework::new);
+    }
+
+    // Method to update a coursework
+    public void updateCoursework(StudyPlan studyPlan, Coursework coursework) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_COURSEWORK_FIELDS_SQL)) {
+            
+            pstmt.setString(1, coursework.getName());
+            pstmt.setString(2, coursework.getDetails());
+            pstmt.setDate(3, DateUtil.toSqlDate(coursework.getDueDate()));
+            pstmt.setString(4, coursework.getStatus());
+            pstmt.setInt(5, coursework.getId());
+            
+            pstmt.executeUpdate();
+            
+            // Update in study plan's coursework list
+            studyPlan.updateCoursework(coursework);
+            studyPlan.markCourseworkSaved(coursework);
+        }
+        DataChangeNotifier.updated(COURSEWORK_TABLE_NAME, Coursework.class, List.of(coursework), Coursework::getId, Coursework::new);
+    }
+
+    // Method to remove a coursework from a study plan
+    public void removeCourseworkFromStudyPlan(StudyPlan studyPlan, Coursework coursework) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_COURSEWORK_BY_ID_SQL)) {
+            
+            pstmt.setInt(1, coursework.getId());
+            pstmt.executeUpdate();
+            
+            // Remove from study plan's coursework list
+            studyPlan.removeCoursework(coursework);
+            studyPlan.markCourseworkDeleted(coursework.getId());
+        }
+        DataChangeNotifier.deleted(COURSEWORK_TABLE_NAME, Coursework.class, new int[] {coursework.getId()});
+    }
+
+    // Method to delete a study plan. The course lookup and both deletes run in one transaction
+    public void deleteStudyPlan(String courseName, String studyPlanName) throws SQLException {
+        UnitOfWork.run(conn -> {
+            int courseId = getCourseId(conn, courseName);
+
+            try (PreparedStatement pstmtCourseworks = conn.prepareStatement(DELETE_NAMED_PLAN_COURSEWORKS_SQL);
+                 PreparedStatement pstmtStudyPlan = conn.prepareStatement(DELETE_NAMED_PLAN_SQL)) {
+                // Delete courseworks
+                pstmtCourseworks.setInt(1, courseId);
+                pstmtCourseworks.setString(2, studyPlanName);
+                pstmtCourseworks.executeUpdate();
+
+                // Delete study plan
+                pstmtStudyPlan.setInt(1, courseId);
+                pstmtStudyPlan.setString(2, studyPlanName);
+                pstmtStudyPlan.executeUpdate();
+            }
+        });
+        // Deleted by name, so the ids are not known here
+        DataChangeNotifier.invalidated(TABLE_NAME, StudyPlan.class);
+        DataChangeNotifier.invalidated(COURSEWORK_TABLE_NAME, Coursework.class);
+    }
+
+    public List<Coursework> findCourseworkDueOnDate(LocalDate today) throws SQLException {
+        return findCourseworkDueBetween(today, today.plusDays(1));
+    }
+
+    // courseworks with from <= due_date < to, as a range scan on idx_courseworks_due_date
+    public List<Coursework> findCourseworkDueBetween(LocalDate from, LocalDate to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(COURSEWORK_DUE_BETWEEN_SQL)) {
+            pstmt.setDate(1, DateUtil.toSqlDate(from));
+            pstmt.setDate(2, DateUtil.toSqlDate(to));
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return COURSEWORK_MAPPER.list(rs);
+            }
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.models.Task;
+import com.studyplatform.util.DatabaseUtil;
+import com.studyplatform.util.DateUtil;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TaskDAO implements BaseDAO<Task> {
+    private static final String TABLE_NAME = "TASKS";
+    // tasks that still need doing. status text comes from the ui, so compare case-insensitively
+    private static final String OPEN_TASK = "(status IS NULL OR UPPER(status) <> 'COMPLETED')";
+    private static final String INSERT_SQL =
+            "INSERT INTO " + TABLE_NAME + " (title, description, type, due_date, status) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE " + TABLE_NAME + " SET title = ?, description = ?, type = ?, due_date = ?, status = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM " + TABLE_NAME + " WHERE id = ?";
+    private static final RowMapper<Task> TASK_MAPPER = new RowMapper<>(row -> {
+        Task task = new Task();
+        task.setId(row.nextInt());
+        task.setTitle(row.nextString());
+        task.setDescription(row.nextString());
+        task.setType(row.nextString());
+        task.setDueDate(row.nextDate());
+        task.setStatus(row.nextString());
+        return task;
+    }, "id", "title", "description", "type", "due_date", "status");
+    private static final RowMapper<String> TITLE_MAPPER = RowMapper.string("title");
+    private static final String SELECT_TASK = "SELECT " + TASK_MAPPER.columns() + " FROM " + TABLE_NAME;
+    private static final String READ_SQL = SELECT_TASK + " WHERE id = ?";
+    private static final String FIND_ALL_SQL = SELECT_TASK;
+    private static final String DUE_BETWEEN_SQL = SELECT_TASK +
+            " WHERE due_date >= ? AND due_date < ? AND " + OPEN_TASK + " ORDER BY due_date";
+    private static final String OVERDUE_SQL = SELECT_TASK +
+            " WHERE due_date < ? AND " + OPEN_TASK + " ORDER BY due_date";
+    private static final String FIND_BY_TITLE_SQL = SELECT_TASK + " WHERE title = ? FETCH FIRST 1 ROWS ONLY";
+    // read from idx_tasks_title alone
+    private static final String FIND_TITLES_SQL =
+            "SELECT " + TITLE_MAPPER.columns() + " FROM " + TABLE_NAME + " WHERE title IS NOT NULL ORDER BY title";
+
+    @Override
+    public void create(Task task) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, task);
+            
+            pstmt.executeUpdate();
+            
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    task.setId(generatedKeys.getInt(1));
+                }
+            }
+        }
+        DataChangeNotifier.created(TABLE_NAME, Task.class, List.of(task), Task::getId, Task::new);
+    }
+
+    @Override
+    public Task read(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(READ_SQL)) {
+            pstmt.setInt(1, id);
+            
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TASK_MAPPER.first(rs);
+            }
+        }
+    }
+
+    @Override
+    public void update(Task task) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            bindUpdate(pstmt, task);
+            
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Task.class, List.of(task), Task::getId, Task::new);
+    }
+
+    @Override
+    public void delete(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            pstmt.setInt(1, id);
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.deleted(TABLE_NAME, Task.class, new int[] {id});
+    }
+
+    @Override
+    public void createAll(Collection<Task> tasks) throws SQLException {
+        UnitOfWork.run(conn ->
+                BatchSupport.insertAll(conn, TABLE_NAME, INSERT_SQL, tasks, this::bindInsert, Task::setId));
+        DataChangeNotifier.created(TABLE_NAME, Task.class, tasks, Task::getId, Task::new);
+    }
+
+    @Override
+    public void updateAll(Collection<Task> tasks) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, UPDATE_SQL, tasks, this::bindUpdate));
+        DataChangeNotifier.updated(TABLE_NAME, Task.class, tasks, Task::getId, Task::new);
+    }
+
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, DELETE_SQL, ids));
+        DataChangeNotifier.deleted(TABLE_NAME, Task.class, ids);
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Task task) throws SQLException {
+        pstmt.setString(1, task.getTitle());
+        pstmt.setString(2, task.getDescription());
+        pstmt.setString(3, task.getType());
+        pstmt.setDate(4, DateUtil.toSqlDate(task.getDueDate()));
+        pstmt.setString(5, task.getStatus());
+    }
+
+    private void bindUpdate(PreparedStatement pstmt, Task task) throws SQLException {
+        bindInsert(pstmt, task);
+        pstmt.setInt(6, task.getId());
+    }
+
+    @Override
+    public List<Task> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return TASK_MAPPER.list(rs);
+        }
+    }
+
+    // findAll through a cursor, see BaseDAO.stream
+    @Override
+    public Stream<Task> stream(int fetchSize) throws SQLException {
+        return TASK_MAPPER.stream(FIND_ALL_SQL, fetchSize);
+    }
+
+    // every task title in order, for lists that show nothing else. no task objects are built
+    public List<String> findTitles() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_TITLES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return TITLE_MAPPER.list(rs);
+        }
+    }
+
+    public List<Task> findTasksDueToday(LocalDate today) throws SQLException {
+        return findTasksDueBetween(today, today.plusDays(1));
+    }
+
+    // open tasks with from <= due_date < to, as a range scan on idx_tasks_due_date
+    public List<Task> findTasksDueBetween(LocalDate from, LocalDate to) throws SQLException {
+        return queryByDates(DUE_BETWEEN_SQL, from, to);
+    }
+
+    // open tasks whose due date is before today
+    public List<Task> findOverdueTasks(LocalDate today) throws SQLException {
+        return queryByDates(OVERDUE_SQL, today);
+    }
+
+    private List<Task> queryByDates(String sql, LocalDate... dates) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < dates.length; i++) {
+                pstmt.setDate(i + 1, DateUtil.toSqlDate(dates[i]));
+            }
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TASK_MAPPER.list(rs);
+            }
+        }
+    }
+
+    // find task by title using idx_tasks_title
+    public Task findByTitle(String title) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BY_TITLE_SQL)) {
+            pstmt.setString(1, title);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TASK_MAPPER.first(rs);
+            }
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.studyplatform.dao;
+
+// tutor data access object
+
+import com.studyplatform.models.Tutor;
+import com.studyplatform.util.DatabaseUtil;
+import com.studyplatform.util.DateUtil;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class TutorDAO implements BaseDAO<Tutor> {
+    private static final String TABLE_NAME = "TUTORS";
+    private static final String INSERT_SQL =
+            "INSERT INTO " + TABLE_NAME + " (name, tutor_class, available_date, location, scheduled) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPDATE_SQL =
+            "UPDATE " + TABLE_NAME + " SET name = ?, tutor_class = ?, available_date = ?, location = ?, scheduled = ? WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM " + TABLE_NAME + " WHERE id = ?";
+    // make tutor object from a row
+    private static final RowMapper<Tutor> TUTOR_MAPPER = new RowMapper<>(row -> {
+        Tutor tutor = new Tutor();
+        tutor.setId(row.nextInt());
+        tutor.setName(row.nextString());
+        tutor.setTutorClass(row.nextString());
+        tutor.setAvailableDate(row.nextDate());
+        tutor.setLocation(row.nextString());
+        tutor.setScheduled(row.nextBoolean());
+        return tutor;
+    }, "id", "name", "tutor_class", "available_date", "location", "scheduled");
+    private static final RowMapper<String> NAME_MAPPER = RowMapper.string("name");
+    private static final RowMapper<String> CLASS_MAPPER = RowMapper.string("tutor_class");
+    private static final String SELECT_TUTOR = "SELECT " + TUTOR_MAPPER.columns() + " FROM " + TABLE_NAME;
+    private static final String READ_SQL = SELECT_TUTOR + " WHERE id = ?";
+    private static final String FIND_ALL_SQL = SELECT_TUTOR;
+    private static final String SCHEDULED_BETWEEN_SQL = SELECT_TUTOR +
+            " WHERE available_date >= ? AND available_date < ? AND scheduled = true ORDER BY available_date";
+    private static final String FIND_BY_NAME_SQL = SELECT_TUTOR + " WHERE name = ? FETCH FIRST 1 ROWS ONLY";
+    private static final String FIND_BY_CLASS_SQL = SELECT_TUTOR + " WHERE tutor_class = ?";
+    private static final String FIND_NAMES_SQL =
+            "SELECT " + NAME_MAPPER.columns() + " FROM " + TABLE_NAME + " WHERE name IS NOT NULL ORDER BY name";
+    private static final String DISTINCT_CLASSES_SQL = "SELECT DISTINCT " + CLASS_MAPPER.columns() + " FROM " + TABLE_NAME +
+            " WHERE tutor_class IS NOT NULL ORDER BY tutor_class";
+
+    // make new tutor in database
+    @Override
+    public void create(Tutor tutor) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            bindInsert(pstmt, tutor);
+            
+            pstmt.executeUpdate();
+            
+            // get back generated id
+            try (ResultSet generatedKeys = pstmt.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    tutor.setId(generatedKeys.getInt(1));
+                }
+            }
+        }
+        DataChangeNotifier.created(TABLE_NAME, Tutor.class, List.of(tutor), Tutor::getId, Tutor::new);
+    }
+
+    // find tutor by id
+    @Override
+    public Tutor read(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(READ_SQL)) {
+            pstmt.setInt(1, id);
+            
+            // null if no tutor found
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TUTOR_MAPPER.first(rs);
+            }
+        }
+    }
+
+    // update tutor in database
+    @Override
+    public void update(Tutor tutor) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            // set all tutor details
+            bindUpdate(pstmt, tutor);
+            
+            // do update magic
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.updated(TABLE_NAME, Tutor.class, List.of(tutor), Tutor::getId, Tutor::new);
+    }
+
+    // delete tutor from database
+    @Override
+    public void delete(int id) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_SQL)) {
+            // set id parameter
+            pstmt.setInt(1, id);
+            
+            // do delete magic
+            pstmt.executeUpdate();
+        }
+        DataChangeNotifier.deleted(TABLE_NAME, Tutor.class, new int[] {id});
+    }
+
+    // make many tutors in one transaction. generated ids are set on the tutors
+    @Override
+    public void createAll(Collection<Tutor> tutors) throws SQLException {
+        UnitOfWork.run(conn ->
+                BatchSupport.insertAll(conn, TABLE_NAME, INSERT_SQL, tutors, this::bindInsert, Tutor::setId));
+        DataChangeNotifier.created(TABLE_NAME, Tutor.class, tutors, Tutor::getId, Tutor::new);
+    }
+
+    @Override
+    public void updateAll(Collection<Tutor> tutors) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, UPDATE_SQL, tutors, this::bindUpdate));
+        DataChangeNotifier.updated(TABLE_NAME, Tutor.class, tutors, Tutor::getId, Tutor::new);
+    }
+
+    @Override
+    public void deleteAll(int[] ids) throws SQLException {
+        UnitOfWork.run(conn -> BatchSupport.executeAll(conn, DELETE_SQL, ids));
+        DataChangeNotifier.deleted(TABLE_NAME, Tutor.class, ids);
+    }
+
+    private void bindInsert(PreparedStatement pstmt, Tutor tutor) throws SQLException {
+        pstmt.setString(1, tutor.getName());
+        pstmt.setString(2, tutor.getTutorClass());
+        pstmt.setDate(3, DateUtil.toSqlDate(tutor.getAvailableDate()));
+        pstmt.setString(4, tutor.getLocation());
+        pstmt.setBoolean(5, tutor.isScheduled());
+    }
+
+    private void bindUpdate(PreparedStatement pstmt, Tutor tutor) throws SQLException {
+        bindInsert(pstmt, tutor);
+        pstmt.setInt(6, tutor.getId());
+    }
+
+    // get all tutors from database. return list of tutors
+    @Override
+    public List<Tutor> findAll() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_ALL_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return TUTOR_MAPPER.list(rs);
+        }
+    }
+
+    // findAll through a cursor, see BaseDAO.stream
+    @Override
+    public Stream<Tutor> stream(int fetchSize) throws SQLException {
+        return TUTOR_MAPPER.stream(FIND_ALL_SQL, fetchSize);
+    }
+
+    // all tutor names in order, read from idx_tutors_name without making tutor objects
+    public List<String> findNames() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_NAMES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return NAME_MAPPER.list(rs);
+        }
+    }
+
+    // find tutors scheduled for today. return list of tutors
+    public List<Tutor> findScheduledTutorsForToday(LocalDate date) throws SQLException {
+        return findScheduledTutorsBetween(date, date.plusDays(1));
+    }
+
+    // find scheduled tutors with from <= available_date < to, as a range scan on idx_tutors_available_date
+    public List<Tutor> findScheduledTutorsBetween(LocalDate from, LocalDate to) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SCHEDULED_BETWEEN_SQL)) {
+            pstmt.setDate(1, DateUtil.toSqlDate(from));
+            pstmt.setDate(2, DateUtil.toSqlDate(to));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TUTOR_MAPPER.list(rs);
+            }
+        }
+    }
+
+    // find tutor by name using idx_tutors_name. return null if no tutor found
+    public Tutor findByName(String name) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BY_NAME_SQL)) {
+            pstmt.setString(1, name);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TUTOR_MAPPER.first(rs);
+            }
+        }
+    }
+
+    // find tutors for one class using idx_tutors_class
+    public List<Tutor> findByClass(String tutorClass) throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(FIND_BY_CLASS_SQL)) {
+            pstmt.setString(1, tutorClass);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return TUTOR_MAPPER.list(rs);
+            }
+        }
+    }
+
+    // distinct tutor classes, read from idx_tutors_class without touching the table rows
+    public List<String> findDistinctClasses() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DISTINCT_CLASSES_SQL);
+             ResultSet rs = pstmt.executeQuery()) {
+            return CLASS_MAPPER.list(rs);
+        }
+    }
+}
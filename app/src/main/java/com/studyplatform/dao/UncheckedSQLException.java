@@ -0,0 +1,16 @@
+package com.studyplatform.dao;
+
+import java.sql.SQLException;
+
+// SQLException thrown while a dao stream is being read. stream operations take functional interfaces
+// that cannot throw checked exceptions, so the cause is carried unchecked
+public class UncheckedSQLException extends RuntimeException {
+    public UncheckedSQLException(SQLException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public synchronized SQLException getCause() {
+        return (SQLException) super.getCause();
+    }
+}
@@ -0,0 +1,81 @@
+package com.studyplatform.dao;
+
+import com.studyplatform.util.DatabaseUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// transaction template for writes that take more than one statement. the statements share one
+// connection and commit once, so a logical operation costs one log flush and never leaves half its rows.
+// a unit started while another one is open on the same thread joins it and commits with it. the connection
+// is bound in DatabaseUtil while the unit runs, so any dao method called inside it joins the same way.
+// change events published inside a unit are held back until the commit, and dropped on rollback
+public final class UnitOfWork {
+    public interface Work<T> {
+        T run(Connection conn) throws SQLException;
+    }
+
+    public interface Action {
+        void run(Connection conn) throws SQLException;
+    }
+
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Connection conn;
+    private final List<Runnable> afterCommit = new ArrayList<>();
+
+    private UnitOfWork(Connection conn) {
+        this.conn = conn;
+    }
+
+    // run work in a transaction and return its result. rolls back if it throws
+    public static <T> T execute(Work<T> work) throws SQLException {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            return work.run(current.conn);
+        }
+
+        T result;
+        UnitOfWork unit;
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            unit = new UnitOfWork(conn);
+            conn.setAutoCommit(false);
+            CURRENT.set(unit);
+            DatabaseUtil.bindTransaction(conn);
+            try {
+                result = work.run(conn);
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                // the pool puts autocommit back when the connection is returned
+                DatabaseUtil.unbindTransaction();
+                CURRENT.remove();
+            }
+        }
+        for (Runnable callback : unit.afterCommit) {
+            callback.run();
+        }
+        return result;
+    }
+
+    public static void run(Action action) throws SQLException {
+        execute(conn -> {
+            action.run(conn);
+            return null;
+        });
+    }
+
+    // run the callback once the current unit commits, or right away outside a unit
+    static void afterCommit(Runnable callback) {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            current.afterCommit.add(callback);
+        } else {
+            callback.run();
+        }
+    }
+}
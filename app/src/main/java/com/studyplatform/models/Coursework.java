@@ -0,0 +1,57 @@
+package com.studyplatform.models;
+
+import java.time.LocalDate;
+
+public class Coursework {
+    private int id;
+    // plan this coursework belongs to, 0 until it is saved or read
+    private int studyPlanId;
+    private String name;
+    private String details;
+    private LocalDate dueDate;
+    private String status;
+    // true once a field was changed after the last read or write, so an update only writes changed rows
+    private boolean dirty;
+
+    public Coursework() {}
+
+    public Coursework(String name, String details, LocalDate dueDate, String status) {
+        this.name = name;
+        this.details = details;
+        this.dueDate = dueDate;
+        this.status = status;
+        this.dirty = true;
+    }
+
+    // Copy of another coursework, dirty flag included
+    public Coursework(Coursework other) {
+        this.id = other.id;
+        this.studyPlanId = other.studyPlanId;
+        this.name = other.name;
+        this.details = other.details;
+        this.dueDate = other.dueDate;
+        this.status = other.status;
+        this.dirty = other.dirty;
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public int getStudyPlanId() { return studyPlanId; }
+    public void setStudyPlanId(int studyPlanId) { this.studyPlanId = studyPlanId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; dirty = true; }
+
+    public String getDetails() { return details; }
+    public void setDetails(String details) { this.details = details; dirty = true; }
+
+    public LocalDate getDueDate() { return dueDate; }
+    public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; dirty = true; }
+
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; dirty = true; }
+
+    public boolean isDirty() { return dirty; }
+    public void markClean() { dirty = false; }
+}
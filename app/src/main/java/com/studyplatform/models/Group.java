@@ -22,6 +22,15 @@ public class Group {
         this.files = new ArrayList<>();
     }
 
+    // Copy of another group with its own member and file lists
+    public Group(Group other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.members = new ArrayList<>(other.members);
+        this.files = new ArrayList<>(other.files);
+        this.meetingTime = other.meetingTime == null ? null : new Date(other.meetingTime.getTime());
+    }
+
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
 
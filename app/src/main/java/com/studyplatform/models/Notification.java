@@ -9,6 +9,8 @@ public class Notification {
     private Date timestamp;
     private boolean isRead;
     private boolean isDeleted;
+    // identifies the reminder source (type, id, date) so the same reminder is stored only once
+    private String dedupKey;
 
     public Notification() {
         this.timestamp = new Date();
@@ -23,6 +25,17 @@ public class Notification {
         this.isDeleted = false;
     }
 
+    // copy of another notification, so readers on other threads never share the writer's object
+    public Notification(Notification other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.timestamp = other.timestamp == null ? null : new Date(other.timestamp.getTime());
+        this.isRead = other.isRead;
+        this.isDeleted = other.isDeleted;
+        this.dedupKey = other.dedupKey;
+    }
+
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
 
@@ -40,4 +53,7 @@ public class Notification {
 
     public boolean isDeleted() { return isDeleted; }
     public void markAsDeleted() { this.isDeleted = true; }
+
+    public String getDedupKey() { return dedupKey; }
+    public void setDedupKey(String dedupKey) { this.dedupKey = dedupKey; }
 }
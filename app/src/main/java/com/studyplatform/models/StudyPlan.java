@@ -0,0 +1,100 @@
+package com.studyplatform.models;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class StudyPlan {
+    private int id;
+    private String course;
+    private String name;
+    private List<Coursework> courseworkList;
+    // false when the plan was loaded without its courseworks
+    private boolean courseworkLoaded = true;
+    // ids of the courseworks as last read or written. an update deletes the ones no longer in the list
+    private final Set<Integer> savedCourseworkIds = new HashSet<>();
+
+    public StudyPlan() {
+        this.courseworkList = new ArrayList<>();
+    }
+
+    public StudyPlan(String course, String name) {
+        this.course = course;
+        this.name = name;
+        this.courseworkList = new ArrayList<>();
+    }
+
+    // Copy of another plan with copies of its courseworks
+    public StudyPlan(StudyPlan other) {
+        this.id = other.id;
+        this.course = other.course;
+        this.name = other.name;
+        this.courseworkList = new ArrayList<>();
+        for (Coursework coursework : other.courseworkList) {
+            this.courseworkList.add(new Coursework(coursework));
+        }
+        this.courseworkLoaded = other.courseworkLoaded;
+        this.savedCourseworkIds.addAll(other.savedCourseworkIds);
+    }
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getCourse() { return course; }
+    public void setCourse(String course) { this.course = course; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDetails() { return name; }
+
+    public List<Coursework> getCourseworkList() { return courseworkList; }
+
+    public boolean isCourseworkLoaded() { return courseworkLoaded; }
+    public void setCourseworkLoaded(boolean courseworkLoaded) { this.courseworkLoaded = courseworkLoaded; }
+
+    public void addCoursework(Coursework coursework) { 
+        courseworkList.add(coursework); 
+    }
+
+    public void removeCoursework(Coursework coursework) { 
+        courseworkList.remove(coursework); 
+    }
+
+    // the listed courseworks match the database: remember their ids and clear their dirty flags
+    public void markCourseworksSaved() {
+        savedCourseworkIds.clear();
+        for (Coursework coursework : courseworkList) {
+            markCourseworkSaved(coursework);
+        }
+    }
+
+    public void markCourseworkSaved(Coursework coursework) {
+        savedCourseworkIds.add(coursework.getId());
+        coursework.markClean();
+    }
+
+    public void markCourseworkDeleted(int courseworkId) {
+        savedCourseworkIds.remove(courseworkId);
+    }
+
+    // saved courseworks that were removed from the list since
+    public List<Integer> getRemovedCourseworkIds() {
+        Set<Integer> removed = new HashSet<>(savedCourseworkIds);
+        for (Coursework coursework : courseworkList) {
+            removed.remove(coursework.getId());
+        }
+        return new ArrayList<>(removed);
+    }
+
+    public void updateCoursework(Coursework coursework) {
+        // Find the existing coursework and update it
+        for (int i = 0; i < courseworkList.size(); i++) {
+            if (courseworkList.get(i).getId() == coursework.getId()) {
+                courseworkList.set(i, coursework);
+                break;
+            }
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.studyplatform.models;
 
+import java.time.LocalDate;
+
 public class Task {
     private int id;
     private String title;
     private String description;
     private String type;
-    private String dueDate;
+    private LocalDate dueDate;
     private String status;
 
     public Task() {}
 
-    public Task(String title, String description, String type, String dueDate, String status) {
+    public Task(String title, String description, String type, LocalDate dueDate, String status) {
         this.title = title;
         this.description = description;
         this.type = type;
@@ -18,6 +20,16 @@ public class Task {
         this.status = status;
     }
 
+    // Copy of another task, to edit without changing the original
+    public Task(Task other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.type = other.type;
+        this.dueDate = other.dueDate;
+        this.status = other.status;
+    }
+
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
 
@@ -31,8 +43,8 @@ public class Task {
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
 
-    public String getDueDate() { return dueDate; }
-    public void setDueDate(String dueDate) { this.dueDate = dueDate; }
+    public LocalDate getDueDate() { return dueDate; }
+    public void setDueDate(LocalDate dueDate) { this.dueDate = dueDate; }
 
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
@@ -1,16 +1,18 @@
 package com.studyplatform.models;
 
+import java.time.LocalDate;
+
 public class Tutor {
     private int id;
     private String name;
     private String tutorClass;
-    private String availableDate;
+    private LocalDate availableDate;
     private String location;
     private boolean scheduled;
 
     public Tutor() {}
 
-    public Tutor(String name, String tutorClass, String availableDate, String location, boolean scheduled) {
+    public Tutor(String name, String tutorClass, LocalDate availableDate, String location, boolean scheduled) {
         this.name = name;
         this.tutorClass = tutorClass;
         this.availableDate = availableDate;
@@ -18,6 +20,16 @@ public class Tutor {
         this.scheduled = scheduled;
     }
 
+    // Copy of another tutor, to edit without changing the original
+    public Tutor(Tutor other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.tutorClass = other.tutorClass;
+        this.availableDate = other.availableDate;
+        this.location = other.location;
+        this.scheduled = other.scheduled;
+    }
+
     public int getId() { return id; }
     public void setId(int id) { this.id = id; }
 
@@ -27,8 +39,8 @@ public class Tutor {
     public String getTutorClass() { return tutorClass; }
     public void setTutorClass(String tutorClass) { this.tutorClass = tutorClass; }
 
-    public String getAvailableDate() { return availableDate; }
-    public void setAvailableDate(String availableDate) { this.availableDate = availableDate; }
+    public LocalDate getAvailableDate() { return availableDate; }
+    public void setAvailableDate(LocalDate availableDate) { this.availableDate = availableDate; }
 
     public String getLocation() { return location; }
     public void setLocation(String location) { this.location = location; }
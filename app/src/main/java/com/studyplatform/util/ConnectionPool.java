@@ -0,0 +1,365 @@
+package com.studyplatform.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// bounded pool of physical jdbc connections. callers get a handle that goes back to the pool on close().
+// each connection keeps its prepared statements in a StatementCache, so they outlive the borrow
+public class ConnectionPool implements AutoCloseable {
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    // idle connections younger than this are handed out without an isValid() round trip
+    private static final long VALIDATION_INTERVAL_MILLIS = 30_000;
+    private static final long HOUSEKEEPING_INTERVAL_MILLIS = 30_000;
+
+    private final String url;
+    // user and password, if any
+    private final Properties connectionProperties;
+    // default schema set on every new connection, null to keep the driver's (the login user's)
+    private final String schema;
+    private final int maxSize;
+    private final long maxWaitMillis;
+    private final long idleTimeoutMillis;
+    private final long leakThresholdMillis;
+    // fill in a stack trace on every borrow so a leak report shows where the connection was taken.
+    // costs more than the borrow itself, so it is for tracking a leak down, not for everyday use
+    private final boolean captureBorrowSites;
+    // prepared statements kept per connection, 0 turns the cache off
+    private final int statementCacheSize;
+
+    private final Semaphore permits;
+    // most recently returned connection is reused first so cold ones age out
+    private final Deque<PooledConnection> idle = new ArrayDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean closed;
+
+    // metrics
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+    private final StatementCache.Counters statementCounters = new StatementCache.Counters();
+
+    public ConnectionPool(String url, int maxSize, long maxWaitMillis, long idleTimeoutMillis, long leakThresholdMillis,
+                          int statementCacheSize) {
+        this(url, new Properties(), null, maxSize, maxWaitMillis, idleTimeoutMillis, leakThresholdMillis,
+                statementCacheSize, false);
+    }
+
+    public ConnectionPool(String url, Properties connectionProperties, String schema, int maxSize, long maxWaitMillis,
+                          long idleTimeoutMillis, long leakThresholdMillis, int statementCacheSize,
+                          boolean captureBorrowSites) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive.");
+        }
+        this.url = url;
+        this.connectionProperties = connectionProperties;
+        this.schema = schema;
+        this.maxSize = maxSize;
+        this.maxWaitMillis = maxWaitMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.captureBorrowSites = captureBorrowSites;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "connection-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::housekeep,
+                HOUSEKEEPING_INTERVAL_MILLIS, HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    // borrow a connection, waiting up to maxWaitMillis when every connection is in use
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed.");
+        }
+
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+                timeoutCount.incrementAndGet();
+                throw new SQLException("Timed out after " + maxWaitMillis + " ms waiting for a database connection ("
+                        + borrowed.size() + " of " + maxSize + " in use).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection.", e);
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        try {
+            PooledConnection pooled = takeIdle();
+            if (pooled == null) {
+                pooled = new PooledConnection(openConnection());
+                createdCount.incrementAndGet();
+            }
+            pooled.borrowedAt = System.currentTimeMillis();
+            pooled.borrowThread = Thread.currentThread().getName();
+            pooled.borrowSite = captureBorrowSites ? new Throwable("Connection borrowed here") : null;
+            pooled.leakReported = false;
+            borrowed.add(pooled);
+            return pooled.newHandle();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private Connection openConnection() throws SQLException {
+        Connection conn = DriverManager.getConnection(url, connectionProperties);
+        if (schema != null) {
+            try {
+                conn.setSchema(schema);
+            } catch (SQLException e) {
+                conn.close();
+                throw e;
+            }
+        }
+        return conn;
+    }
+
+    // pop idle connections until one passes validation
+    private PooledConnection takeIdle() {
+        while (true) {
+            PooledConnection pooled;
+            synchronized (idle) {
+                pooled = idle.pollFirst();
+            }
+            if (pooled == null) {
+                return null;
+            }
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            discard(pooled);
+        }
+    }
+
+    private boolean isUsable(PooledConnection pooled) {
+        try {
+            if (pooled.physical.isClosed()) {
+                return false;
+            }
+            if (System.currentTimeMillis() - pooled.lastUsed < VALIDATION_INTERVAL_MILLIS) {
+                return true;
+            }
+            return pooled.physical.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void release(PooledConnection pooled) {
+        borrowed.remove(pooled);
+        try {
+            boolean reusable = !closed && !pooled.physical.isClosed();
+            if (reusable) {
+                // never hand out a connection with an open transaction or changed autocommit
+                if (!pooled.physical.getAutoCommit()) {
+                    pooled.physical.rollback();
+                    pooled.physical.setAutoCommit(true);
+                }
+                pooled.physical.clearWarnings();
+                pooled.lastUsed = System.currentTimeMillis();
+                synchronized (idle) {
+                    idle.addFirst(pooled);
+                }
+            } else {
+                discard(pooled);
+            }
+        } catch (SQLException e) {
+            System.err.println("Discarding broken pooled connection: " + e.getMessage());
+            discard(pooled);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(PooledConnection pooled) {
+        if (pooled.statements != null) {
+            pooled.statements.clear();
+        }
+        try {
+            pooled.physical.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing pooled connection: " + e.getMessage());
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    // evict connections idle for too long and report connections held past the leak threshold
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+
+        List<PooledConnection> expired = new ArrayList<>();
+        synchronized (idle) {
+            Iterator<PooledConnection> it = idle.iterator();
+            while (it.hasNext()) {
+                PooledConnection pooled = it.next();
+                if (now - pooled.lastUsed > idleTimeoutMillis) {
+                    it.remove();
+                    expired.add(pooled);
+                }
+            }
+        }
+        for (PooledConnection pooled : expired) {
+            discard(pooled);
+            evictedCount.incrementAndGet();
+        }
+
+        for (PooledConnection pooled : borrowed) {
+            long heldFor = now - pooled.borrowedAt;
+            if (heldFor > leakThresholdMillis && !pooled.leakReported) {
+                pooled.leakReported = true;
+                leakCount.incrementAndGet();
+                System.err.println("Possible connection leak: connection held for " + heldFor + " ms by thread " +
+                        pooled.borrowThread);
+                Throwable borrowSite = pooled.borrowSite;
+                if (borrowSite != null) {
+                    borrowSite.printStackTrace();
+                }
+            }
+        }
+    }
+
+    public PoolStats getStats() {
+        int idleCount;
+        synchronized (idle) {
+            idleCount = idle.size();
+        }
+        long borrows = borrowCount.get();
+        return new PoolStats(
+                maxSize,
+                borrowed.size(),
+                idleCount,
+                permits.getQueueLength(),
+                borrows,
+                borrows == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get() / borrows),
+                TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()),
+                timeoutCount.get(),
+                createdCount.get(),
+                evictedCount.get(),
+                leakCount.get());
+    }
+
+    public StatementCacheStats getStatementCacheStats() {
+        return new StatementCacheStats(
+                statementCounters.size.sum(),
+                statementCacheSize * maxSize,
+                statementCounters.hits.sum(),
+                statementCounters.misses.sum(),
+                statementCounters.evictions.sum());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        housekeeper.shutdownNow();
+        synchronized (idle) {
+            for (PooledConnection pooled : idle) {
+                discard(pooled);
+            }
+            idle.clear();
+        }
+    }
+
+    // one physical connection plus the bookkeeping the pool needs
+    private final class PooledConnection {
+        private final Connection physical;
+        // null when the cache is off
+        private final StatementCache statements;
+        private volatile long lastUsed = System.currentTimeMillis();
+        private volatile long borrowedAt;
+        private volatile String borrowThread;
+        // null unless captureBorrowSites is on
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+
+        private PooledConnection(Connection physical) {
+            this.physical = physical;
+            this.statements = statementCacheSize > 0
+                    ? new StatementCache(physical, statementCacheSize, statementCounters)
+                    : null;
+        }
+
+        // each borrow gets its own handle so a stale reference cannot touch the next borrower's connection
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Handle(this));
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+        private final PooledConnection pooled;
+        private boolean handleClosed;
+
+        private Handle(PooledConnection pooled) {
+            this.pooled = pooled;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!handleClosed) {
+                        handleClosed = true;
+                        release(pooled);
+                    }
+                    return null;
+                case "isClosed":
+                    return handleClosed || pooled.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Pooled[" + pooled.physical + "]";
+                default:
+                    if (handleClosed) {
+                        throw new SQLException("Connection has already been returned to the pool.");
+                    }
+                    if (pooled.statements != null && StatementCache.isCacheable(method)) {
+                        return pooled.statements.prepare((Connection) proxy, (String) args[0],
+                                StatementCache.autoGeneratedKeys(args));
+                    }
+                    try {
+                        return method.invoke(pooled.physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
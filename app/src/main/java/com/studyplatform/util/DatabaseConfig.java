@@ -0,0 +1,204 @@
+package com.studyplatform.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// database and derby settings, read once at startup. a setting comes from the first of:
+//   1. a system property, e.g. -Dstudyplatform.db.mode=client
+//   2. an environment variable named like the key in upper case with dots as underscores, e.g. STUDYPLATFORM_DB_MODE
+//   3. the properties file, studyplatform.properties in the working directory or the path in studyplatform.config
+//   4. the profile picked with studyplatform.profile (embedded-desktop by default)
+//   5. the built-in default
+// derby.* settings (page cache, checkpoints, durability...) are handed to derby as system properties
+public final class DatabaseConfig {
+    public static final String CONFIG_FILE = "studyplatform.config";
+    public static final String PROFILE = "studyplatform.profile";
+    // embedded, server or client, see DatabaseUtil
+    public static final String MODE = "studyplatform.db.mode";
+    // database name, memory:<name> for an in-memory database
+    public static final String DB_NAME = "studyplatform.db.name";
+    public static final String DB_HOST = "studyplatform.db.host";
+    public static final String DB_PORT = "studyplatform.db.port";
+    // credentials for every connection, needed once derby.connection.requireAuthentication is on
+    public static final String DB_USER = "studyplatform.db.user";
+    public static final String DB_PASSWORD = "studyplatform.db.password";
+    // full jdbc url, replaces the one built from the settings above
+    public static final String DB_URL = "studyplatform.db.url";
+    // directory for the transaction log, e.g. on a separate disk. only used when the database is created
+    public static final String DB_LOG_DEVICE = "studyplatform.db.logDevice";
+    public static final String POOL_MAX_SIZE = "studyplatform.pool.maxSize";
+    public static final String POOL_MAX_WAIT_MILLIS = "studyplatform.pool.maxWaitMillis";
+    public static final String POOL_IDLE_TIMEOUT_MILLIS = "studyplatform.pool.idleTimeoutMillis";
+    public static final String POOL_LEAK_THRESHOLD_MILLIS = "studyplatform.pool.leakThresholdMillis";
+    // record where every connection is borrowed, so leak reports include a stack trace. slow, for debugging
+    public static final String POOL_LEAK_STACK_TRACES = "studyplatform.pool.leakStackTraces";
+    // prepared statements kept open per pooled connection
+    public static final String POOL_STATEMENT_CACHE_SIZE = "studyplatform.pool.statementCacheSize";
+
+    private static final String DEFAULT_CONFIG_FILE = "studyplatform.properties";
+    private static final String DERBY_PREFIX = "derby.";
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            PROFILE, DatabaseProfile.EMBEDDED_DESKTOP.getProfileName(),
+            DB_HOST, "localhost",
+            DB_PORT, "1527",
+            POOL_MAX_WAIT_MILLIS, "5000",
+            POOL_IDLE_TIMEOUT_MILLIS, "300000",
+            POOL_LEAK_THRESHOLD_MILLIS, "30000",
+            POOL_LEAK_STACK_TRACES, "false",
+            POOL_STATEMENT_CACHE_SIZE, "128");
+
+    // derby settings that can also come from the environment. derby.* keys in the file are passed on as well
+    private static final List<String> DERBY_SETTINGS = List.of(
+            "derby.storage.pageCacheSize",
+            "derby.storage.pageSize",
+            "derby.storage.checkpointInterval",
+            "derby.storage.logSwitchInterval",
+            "derby.language.statementCacheSize",
+            "derby.locks.waitTimeout",
+            "derby.system.durability");
+
+    private final Properties file;
+    private final DatabaseProfile profile;
+
+    private DatabaseConfig(Properties file) {
+        this.file = file;
+        String profileName = lookup(PROFILE);
+        this.profile = DatabaseProfile.byName(profileName != null ? profileName : DEFAULTS.get(PROFILE));
+    }
+
+    public static DatabaseConfig load() {
+        String path = System.getProperty(CONFIG_FILE, System.getenv(envName(CONFIG_FILE)));
+        Path configFile = Path.of(path != null ? path : DEFAULT_CONFIG_FILE);
+        Properties file = new Properties();
+        if (Files.isReadable(configFile)) {
+            try (InputStream in = Files.newInputStream(configFile)) {
+                file.load(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not read " + configFile + ": " + e.getMessage(), e);
+            }
+        } else if (path != null) {
+            throw new IllegalStateException("Config file not found: " + configFile);
+        }
+        return new DatabaseConfig(file);
+    }
+
+    public DatabaseProfile getProfile() {
+        return profile;
+    }
+
+    // value of a setting, or null if nothing sets it
+    public String get(String key) {
+        String value = lookup(key);
+        if (value == null) {
+            value = profile.getSettings().get(key);
+        }
+        return value != null ? value : DEFAULTS.get(key);
+    }
+
+    public int getInt(String key) {
+        return Integer.parseInt(require(key));
+    }
+
+    public long getLong(String key) {
+        return Long.parseLong(require(key));
+    }
+
+    public boolean getBoolean(String key) {
+        return Boolean.parseBoolean(require(key));
+    }
+
+    // jdbc url for the configured mode, unless studyplatform.db.url gives one
+    public String getUrl() {
+        String url = get(DB_URL);
+        if (url != null) {
+            return url;
+        }
+
+        String name = require(DB_NAME);
+        String mode = require(MODE);
+        switch (mode) {
+            case "embedded":
+            case "server":
+                url = "jdbc:derby:" + name + ";create=true";
+                break;
+            case "client":
+                url = "jdbc:derby://" + require(DB_HOST) + ":" + require(DB_PORT) + "/" + name + ";create=true";
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown " + MODE + ": " + mode);
+        }
+        String logDevice = get(DB_LOG_DEVICE);
+        return logDevice != null ? url + ";logDevice=" + logDevice : url;
+    }
+
+    // user and password for DriverManager, empty if no user is configured. kept out of the url so they are not logged
+    public Properties getConnectionProperties() {
+        Properties info = new Properties();
+        String user = get(DB_USER);
+        if (user != null) {
+            info.setProperty("user", user);
+            String password = get(DB_PASSWORD);
+            if (password != null) {
+                info.setProperty("password", password);
+            }
+        }
+        return info;
+    }
+
+    // every derby.* setting from the profile, the file and DERBY_SETTINGS, resolved as usual
+    public Map<String, String> getDerbyProperties() {
+        Map<String, String> derby = new LinkedHashMap<>();
+        for (String key : DERBY_SETTINGS) {
+            putIfSet(derby, key);
+        }
+        for (String key : profile.getSettings().keySet()) {
+            if (key.startsWith(DERBY_PREFIX)) {
+                putIfSet(derby, key);
+            }
+        }
+        for (String key : file.stringPropertyNames()) {
+            if (key.startsWith(DERBY_PREFIX)) {
+                putIfSet(derby, key);
+            }
+        }
+        return derby;
+    }
+
+    private void putIfSet(Map<String, String> derby, String key) {
+        String value = get(key);
+        if (value != null) {
+            derby.put(key, value);
+        }
+    }
+
+    private String require(String key) {
+        String value = get(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing database setting " + key);
+        }
+        return value;
+    }
+
+    // system property, environment or file
+    private String lookup(String key) {
+        String value = System.getProperty(key);
+        if (value == null) {
+            value = System.getenv(envName(key));
+        }
+        if (value == null) {
+            value = file.getProperty(key);
+        }
+        return value == null ? null : value.trim();
+    }
+
+    private static String envName(String key) {
+        return key.toUpperCase().replace('.', '_');
+    }
+}
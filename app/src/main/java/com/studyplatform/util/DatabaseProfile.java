@@ -0,0 +1,61 @@
+package com.studyplatform.util;
+
+import java.util.Map;
+
+// named sets of database defaults for one kind of deployment. any setting can still be overridden
+// by the properties file, the environment or a system property, see DatabaseConfig
+public enum DatabaseProfile {
+    // one desktop user on an on-disk database. derby's own defaults, a small pool
+    EMBEDDED_DESKTOP("embedded-desktop", Map.of(
+            DatabaseConfig.MODE, "embedded",
+            DatabaseConfig.DB_NAME, "studydb",
+            DatabaseConfig.POOL_MAX_SIZE, "10",
+            "derby.storage.pageCacheSize", "1000",
+            "derby.language.statementCacheSize", "256")),
+
+    // throwaway database in memory for tests and benchmarks. nothing is written to disk, so skip the syncs
+    IN_MEMORY_TEST("in-memory-test", Map.of(
+            DatabaseConfig.MODE, "embedded",
+            DatabaseConfig.DB_NAME, "memory:studydb",
+            DatabaseConfig.POOL_MAX_SIZE, "10",
+            "derby.system.durability", "test",
+            "derby.language.statementCacheSize", "256")),
+
+    // shared database serving several app instances and workers with heavy batch writes.
+    // a big page cache, and checkpoints and log switches spaced out so bulk loads are not
+    // interrupted by flushing the cache every few megabytes of log
+    SERVER_BULK("server-bulk", Map.of(
+            DatabaseConfig.MODE, "server",
+            DatabaseConfig.DB_NAME, "studydb",
+            DatabaseConfig.POOL_MAX_SIZE, "32",
+            DatabaseConfig.POOL_STATEMENT_CACHE_SIZE, "256",
+            "derby.storage.pageCacheSize", "20000",
+            "derby.language.statementCacheSize", "1000",
+            "derby.storage.checkpointInterval", "100000000",
+            "derby.storage.logSwitchInterval", "16777216"));
+
+    private final String profileName;
+    private final Map<String, String> settings;
+
+    DatabaseProfile(String profileName, Map<String, String> settings) {
+        this.profileName = profileName;
+        this.settings = settings;
+    }
+
+    public String getProfileName() {
+        return profileName;
+    }
+
+    Map<String, String> getSettings() {
+        return settings;
+    }
+
+    public static DatabaseProfile byName(String profileName) {
+        for (DatabaseProfile profile : values()) {
+            if (profile.profileName.equals(profileName)) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Unknown database profile: " + profileName);
+    }
+}
@@ -0,0 +1,155 @@
+package com.studyplatform.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+
+public class DatabaseUtil {
+    private static final String EMBEDDED_DRIVER = "org.apache.derby.jdbc.EmbeddedDriver";
+    private static final String CLIENT_DRIVER = "org.apache.derby.jdbc.ClientDriver";
+    // Stops the embedded engine with a checkpoint, so the next boot has no log to replay
+    private static final String ENGINE_SHUTDOWN_URL = "jdbc:derby:;shutdown=true";
+    // SQLState Derby reports for a clean engine shutdown
+    private static final String ENGINE_SHUTDOWN_STATE = "XJ015";
+    // Schema of every table. Derby's default schema is the login user's, so with authentication on two
+    // users would each get their own tables. Every pooled connection is set to this one instead
+    public static final String SCHEMA = "APP";
+
+    // Settings from system properties, the environment, studyplatform.properties and the profile, see DatabaseConfig
+    private static final DatabaseConfig CONFIG = DatabaseConfig.load();
+    // studyplatform.db.mode picks how this process reaches the database:
+    //   embedded - opens the database in this jvm, nothing else can open it (default)
+    //   server   - opens it in this jvm and also serves it to other processes over the network
+    //   client   - connects to a process running in server mode
+    private static final String MODE = CONFIG.get(DatabaseConfig.MODE);
+
+    private static final ConnectionPool POOL;
+    // Only set in server mode
+    private static final DerbyNetworkServer SERVER;
+    // Connection of the transaction open on this thread, see UnitOfWork
+    private static final ThreadLocal<Connection> TRANSACTION = new ThreadLocal<>();
+
+    // Static initializer to load the Derby driver, start the network server if asked to, and create the pool.
+    // In client mode the pool keeps a few network connections open and every thread of the app shares them
+    static {
+        // Derby reads its properties (page cache, statement cache, checkpoints...) when the driver boots
+        // the database. Ones already set on the command line win
+        CONFIG.getDerbyProperties().forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        });
+        String url = CONFIG.getUrl();
+        System.out.println("Database profile " + CONFIG.getProfile().getProfileName() + ", " + MODE + " mode, " + url);
+
+        try {
+            Class.forName(MODE.equals("client") ? CLIENT_DRIVER : EMBEDDED_DRIVER);
+        } catch (ClassNotFoundException e) {
+            System.err.println("Derby JDBC Driver not found: " + e.getMessage());
+            throw new ExceptionInInitializerError(e);
+        }
+
+        if (MODE.equals("server")) {
+            try {
+                SERVER = new DerbyNetworkServer(CONFIG.get(DatabaseConfig.DB_HOST), CONFIG.getInt(DatabaseConfig.DB_PORT),
+                        CONFIG.get(DatabaseConfig.DB_USER), CONFIG.get(DatabaseConfig.DB_PASSWORD));
+                SERVER.start();
+            } catch (Exception e) {
+                System.err.println("Could not start Derby network server: " + e.getMessage());
+                throw new ExceptionInInitializerError(e);
+            }
+        } else {
+            SERVER = null;
+        }
+
+        POOL = new ConnectionPool(url, CONFIG.getConnectionProperties(), SCHEMA,
+                CONFIG.getInt(DatabaseConfig.POOL_MAX_SIZE),
+                CONFIG.getLong(DatabaseConfig.POOL_MAX_WAIT_MILLIS),
+                CONFIG.getLong(DatabaseConfig.POOL_IDLE_TIMEOUT_MILLIS),
+                CONFIG.getLong(DatabaseConfig.POOL_LEAK_THRESHOLD_MILLIS),
+                CONFIG.getInt(DatabaseConfig.POOL_STATEMENT_CACHE_SIZE),
+                CONFIG.getBoolean(DatabaseConfig.POOL_LEAK_STACK_TRACES));
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            POOL.close();
+            if (SERVER != null) {
+                SERVER.shutdown();
+            }
+            if (!MODE.equals("client")) {
+                shutdownEngine();
+            }
+        }, "connection-pool-shutdown"));
+    }
+
+    // Private constructor to prevent instantiation
+    private DatabaseUtil() {}
+
+    // Without this the engine stops at exit without a checkpoint, and with the server-bulk profile's long
+    // checkpoint interval the next boot replays up to a hundred megabytes of log
+    private static void shutdownEngine() {
+        try {
+            DriverManager.getConnection(ENGINE_SHUTDOWN_URL, CONFIG.getConnectionProperties()).close();
+        } catch (SQLException e) {
+            if (!ENGINE_SHUTDOWN_STATE.equals(e.getSQLState())) {
+                System.err.println("Error shutting down Derby: " + e.getMessage());
+            }
+        }
+    }
+
+    // Borrow a pooled connection. Closing it returns it to the pool.
+    // Inside a transaction bound with bindTransaction this returns that connection instead, so a dao
+    // method called from a UnitOfWork joins its transaction rather than waiting on its locks
+    public static Connection getConnection() throws SQLException {
+        Connection transaction = TRANSACTION.get();
+        return transaction != null ? joined(transaction) : POOL.getConnection();
+    }
+
+    // Make every getConnection() on this thread return conn until unbindTransaction. Only for UnitOfWork
+    public static void bindTransaction(Connection conn) {
+        TRANSACTION.set(conn);
+    }
+
+    public static void unbindTransaction() {
+        TRANSACTION.remove();
+    }
+
+    // Handle on the bound connection that leaves it open and leaves the commit to whoever bound it
+    private static Connection joined(Connection conn) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "close":
+                        case "commit":
+                        case "rollback":
+                        case "setAutoCommit":
+                            return null;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            try {
+                                return method.invoke(conn, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                    }
+                });
+    }
+
+    // True in server and client mode, where other processes write to the same tables
+    public static boolean isShared() {
+        return !MODE.equals("embedded");
+    }
+
+    // Current pool metrics (active, idle, wait times) for sizing under load
+    public static PoolStats getPoolStats() {
+        return POOL.getStats();
+    }
+
+    // Hit rate of the per-connection prepared statement caches
+    public static StatementCacheStats getStatementCacheStats() {
+        return POOL.getStatementCacheStats();
+    }
+}
@@ -0,0 +1,41 @@
+package com.studyplatform.util;
+
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+// shared MM-dd-yyyy parsing/formatting for the ui, and LocalDate <-> jdbc DATE conversion for the daos
+public final class DateUtil {
+    // DateTimeFormatter is immutable and thread-safe, unlike SimpleDateFormat
+    public static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("MM-dd-uuuu").withResolverStyle(ResolverStyle.STRICT);
+
+    private DateUtil() {}
+
+    // parse MM-dd-yyyy. blank input means no date
+    public static LocalDate parse(String text) throws ParseException {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(text.trim(), DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            throw new ParseException("Invalid date '" + text + "', expected MM-dd-yyyy", e.getErrorIndex());
+        }
+    }
+
+    // format as MM-dd-yyyy. no date formats as empty string
+    public static String format(LocalDate date) {
+        return date == null ? "" : date.format(DATE_FORMAT);
+    }
+
+    public static java.sql.Date toSqlDate(LocalDate date) {
+        return date == null ? null : java.sql.Date.valueOf(date);
+    }
+
+    public static LocalDate toLocalDate(java.sql.Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
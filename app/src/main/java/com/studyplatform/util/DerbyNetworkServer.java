@@ -0,0 +1,78 @@
+package com.studyplatform.util;
+
+import org.apache.derby.drda.NetworkServerControl;
+
+import java.net.InetAddress;
+
+// derby network server hosted in this jvm. the database engine stays embedded here, other processes
+// (more app instances, reminder workers) open the same database through the client driver.
+// only one process per database may host the server. it has no access control of its own, so anything other
+// than a loopback address is refused unless derby is set up to require a user and password
+final class DerbyNetworkServer {
+    private static final String REQUIRE_AUTHENTICATION = "derby.connection.requireAuthentication";
+    private static final String AUTHENTICATION_PROVIDER = "derby.authentication.provider";
+    private static final String BUILTIN_USER_PREFIX = "derby.user.";
+
+    // start() returns before the server accepts connections, so it is pinged until it answers
+    private static final int PING_ATTEMPTS = 50;
+    private static final long PING_INTERVAL_MILLIS = 100;
+
+    private final NetworkServerControl control;
+    private final String address;
+
+    // user and password are only needed to shut the server down once authentication is on
+    DerbyNetworkServer(String host, int port, String user, String password) throws Exception {
+        InetAddress inetAddress = InetAddress.getByName(host);
+        if (!inetAddress.isLoopbackAddress() && !authenticationRequired()) {
+            throw new IllegalStateException("Refusing to serve the database on " + host + " without authentication. " +
+                    "Set " + REQUIRE_AUTHENTICATION + "=true and add users (" + BUILTIN_USER_PREFIX + "<name>=<password>), " +
+                    "or use a loopback host");
+        }
+        this.control = user != null
+                ? new NetworkServerControl(inetAddress, port, user, password)
+                : new NetworkServerControl(inetAddress, port);
+        this.address = host + ":" + port;
+    }
+
+    // derby reads these from the system properties, where DatabaseUtil puts the configured derby.* settings
+    private static boolean authenticationRequired() {
+        if (!Boolean.parseBoolean(System.getProperty(REQUIRE_AUTHENTICATION))) {
+            return false;
+        }
+        if (System.getProperty(AUTHENTICATION_PROVIDER) != null) {
+            return true;
+        }
+        // without a provider derby checks the derby.user.* properties, so at least one user must exist
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith(BUILTIN_USER_PREFIX)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void start() throws Exception {
+        // null turns off the server's own console output
+        control.start(null);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                control.ping();
+                System.out.println("Derby network server listening on " + address);
+                return;
+            } catch (Exception e) {
+                if (attempt == PING_ATTEMPTS) {
+                    throw e;
+                }
+                Thread.sleep(PING_INTERVAL_MILLIS);
+            }
+        }
+    }
+
+    void shutdown() {
+        try {
+            control.shutdown();
+        } catch (Exception e) {
+            System.err.println("Error stopping Derby network server: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.studyplatform.util;
+
+// point-in-time snapshot of connection pool metrics. wait times are in microseconds
+public record PoolStats(
+        int maxSize,
+        int active,
+        int idle,
+        int waitingThreads,
+        long borrowCount,
+        long averageWaitMicros,
+        long maxWaitMicros,
+        long timeoutCount,
+        long createdCount,
+        long evictedCount,
+        long leakCount) {
+
+    @Override
+    public String toString() {
+        return "PoolStats{active=" + active + ", idle=" + idle + ", max=" + maxSize +
+                ", waiting=" + waitingThreads + ", borrows=" + borrowCount +
+                ", avgWait=" + averageWaitMicros + "us, maxWait=" + maxWaitMicros + "us" +
+                ", timeouts=" + timeoutCount + ", created=" + createdCount +
+                ", evicted=" + evictedCount + ", leaks=" + leakCount + "}";
+    }
+}
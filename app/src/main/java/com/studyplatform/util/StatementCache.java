@@ -0,0 +1,214 @@
+package com.studyplatform.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+// lru cache of prepared statements for one physical connection. a dao that prepares the same sql again
+// gets the already compiled statement back, so derby skips parsing, binding and plan compilation.
+// close() on a cached statement clears its parameters and keeps it open for the next caller.
+// only used by the borrower of the connection, so it needs no locking
+final class StatementCache {
+    // no generated keys requested, i.e. prepareStatement(sql)
+    static final int NO_KEYS = -1;
+
+    // setters that change how the statement behaves for the next caller. a statement they were called on
+    // is closed instead of cached
+    private static final Set<String> STATE_CHANGING_METHODS = Set.of(
+            "setFetchSize", "setFetchDirection", "setMaxRows", "setLargeMaxRows", "setMaxFieldSize",
+            "setQueryTimeout", "setEscapeProcessing", "setPoolable", "setCursorName", "closeOnCompletion");
+
+    // counters shared by the caches of every connection in a pool
+    static final class Counters {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+        final LongAdder evictions = new LongAdder();
+        final LongAdder size = new LongAdder();
+    }
+
+    private record Key(String sql, int autoGeneratedKeys) {}
+
+    private final Connection physical;
+    private final Counters counters;
+    private final LinkedHashMap<Key, CachedStatement> statements;
+
+    StatementCache(Connection physical, int maxSize, Counters counters) {
+        this.physical = physical;
+        this.counters = counters;
+        this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, CachedStatement> eldest) {
+                if (size() > maxSize) {
+                    counters.evictions.increment();
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // true for prepareStatement(String) and prepareStatement(String, int autoGeneratedKeys)
+    static boolean isCacheable(Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        return method.getName().equals("prepareStatement") && types[0] == String.class
+                && (types.length == 1 || (types.length == 2 && types[1] == int.class));
+    }
+
+    static int autoGeneratedKeys(Object[] args) {
+        return args.length == 1 ? NO_KEYS : (Integer) args[1];
+    }
+
+    // prepare sql on the physical connection, or reuse the cached statement. connection is the handle
+    // the caller borrowed, returned from getConnection()
+    PreparedStatement prepare(Connection connection, String sql, int autoGeneratedKeys) throws SQLException {
+        Key key = new Key(sql, autoGeneratedKeys);
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            counters.hits.increment();
+            return cached.checkOut(connection);
+        }
+
+        counters.misses.increment();
+        PreparedStatement statement = autoGeneratedKeys == NO_KEYS
+                ? physical.prepareStatement(sql)
+                : physical.prepareStatement(sql, autoGeneratedKeys);
+        if (cached != null) {
+            // the same sql is already open further up the stack. this copy is closed as usual
+            return statement;
+        }
+
+        cached = new CachedStatement(key, statement);
+        statements.put(key, cached);
+        counters.size.increment();
+        return cached.checkOut(connection);
+    }
+
+    // called before the physical connection is closed
+    void clear() {
+        for (CachedStatement cached : statements.values()) {
+            cached.evict();
+        }
+        statements.clear();
+    }
+
+    private final class CachedStatement {
+        private final Key key;
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean batched;
+        // evicted or reconfigured while checked out, so it is closed when the caller is done
+        private boolean discard;
+        private boolean closed;
+
+        private CachedStatement(Key key, PreparedStatement statement) {
+            this.key = key;
+            this.statement = statement;
+        }
+
+        // each checkout gets its own proxy so a stale reference cannot touch the next caller's statement
+        private PreparedStatement checkOut(Connection connection) {
+            inUse = true;
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new Checkout(this, connection));
+        }
+
+        private void checkIn() {
+            inUse = false;
+            try {
+                if (!discard && !statement.isClosed()) {
+                    statement.clearParameters();
+                    if (batched) {
+                        statement.clearBatch();
+                        batched = false;
+                    }
+                    return;
+                }
+            } catch (SQLException e) {
+                System.err.println("Discarding cached statement: " + e.getMessage());
+            }
+            if (statements.get(key) == this) {
+                statements.remove(key);
+            }
+            close();
+        }
+
+        private void evict() {
+            if (inUse) {
+                discard = true;
+            } else {
+                close();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            counters.size.decrement();
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Error closing cached statement: " + e.getMessage());
+            }
+        }
+    }
+
+    private static final class Checkout implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection connection;
+        private boolean checkoutClosed;
+
+        private Checkout(CachedStatement cached, Connection connection) {
+            this.cached = cached;
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!checkoutClosed) {
+                        checkoutClosed = true;
+                        cached.checkIn();
+                    }
+                    return null;
+                case "isClosed":
+                    return checkoutClosed || cached.statement.isClosed();
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Cached[" + cached.key.sql() + "]";
+                default:
+                    if (checkoutClosed) {
+                        throw new SQLException("Statement is closed.");
+                    }
+                    if (STATE_CHANGING_METHODS.contains(method.getName())) {
+                        cached.discard = true;
+                    } else if (method.getName().equals("addBatch")) {
+                        cached.batched = true;
+                    }
+                    try {
+                        return method.invoke(cached.statement, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+    }
+}
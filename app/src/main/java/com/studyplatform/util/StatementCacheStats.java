@@ -0,0 +1,24 @@
+package com.studyplatform.util;
+
+// point-in-time snapshot of the prepared statement caches of every pooled connection.
+// a hit is a prepareStatement that derby did not have to parse or compile
+public record StatementCacheStats(
+        long size,
+        long maxSize,
+        long hitCount,
+        long missCount,
+        long evictionCount) {
+
+    public double hitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementCacheStats{size=" + size + ", max=" + maxSize +
+                ", hits=" + hitCount + ", misses=" + missCount +
+                ", hitRate=" + String.format("%.1f%%", hitRate() * 100) +
+                ", evictions=" + evictionCount + "}";
+    }
+}
@@ -0,0 +1,193 @@
+package com.studyplatform.views;
+
+import com.studyplatform.dao.EntityEvent;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+// table model over a list of entities. dao change events are applied row by row, so a write
+// repaints one row instead of rebuilding the table. only use it on the edt
+public class EntityTableModel<T> extends AbstractTableModel {
+    // value of one cell
+    public interface ColumnMapper<T> {
+        Object valueAt(T entity, int column);
+    }
+
+    private final String[] columnNames;
+    private final ToIntFunction<T> idOf;
+    private final ColumnMapper<T> columnMapper;
+    // rows that fail it are left out, or removed when an update makes them fail it
+    private final Predicate<T> filter;
+    private final List<T> rows = new ArrayList<>();
+    // row of each id. the keys always match the rows, the row numbers go stale when a row is inserted
+    // or removed before the end, and are worked out again on the next lookup
+    private final Map<Integer, Integer> rowById = new HashMap<>();
+    private boolean rowNumbersStale;
+
+    public EntityTableModel(String[] columnNames, ToIntFunction<T> idOf, ColumnMapper<T> columnMapper) {
+        this(columnNames, idOf, columnMapper, entity -> true);
+    }
+
+    public EntityTableModel(String[] columnNames, ToIntFunction<T> idOf, ColumnMapper<T> columnMapper,
+                            Predicate<T> filter) {
+        this.columnNames = columnNames;
+        this.idOf = idOf;
+        this.columnMapper = columnMapper;
+        this.filter = filter;
+    }
+
+    public void setRows(List<T> entities) {
+        rows.clear();
+        rowById.clear();
+        rowNumbersStale = false;
+        addFiltered(entities);
+        fireTableDataChanged();
+    }
+
+    public void appendRows(List<T> entities) {
+        int firstRow = rows.size();
+        addFiltered(entities);
+        if (rows.size() > firstRow) {
+            fireTableRowsInserted(firstRow, rows.size() - 1);
+        }
+    }
+
+    public T getEntityAt(int row) {
+        return rows.get(row);
+    }
+
+    // apply one change event. return false when the event does not say which rows changed
+    // (or how), and the caller has to reload the table
+    public boolean apply(EntityEvent<T> event) {
+        switch (event) {
+            case EntityEvent.EntityCreated<T> created -> {
+                for (T entity : created.entities()) {
+                    if (!rowById.containsKey(idOf.applyAsInt(entity))) {
+                        insert(entity);
+                    }
+                }
+                return true;
+            }
+            case EntityEvent.EntityUpdated<T> updated -> {
+                if (updated.entities().isEmpty()) {
+                    return false;
+                }
+                for (T entity : updated.entities()) {
+                    replace(entity);
+                }
+                return true;
+            }
+            case EntityEvent.EntityDeleted<T> deleted -> {
+                // find every row first, then remove from the bottom up so the other row numbers stay valid
+                List<Integer> deletedRows = new ArrayList<>();
+                for (int id : deleted.ids()) {
+                    int row = rowOf(id);
+                    if (row >= 0) {
+                        deletedRows.add(row);
+                    }
+                }
+                deletedRows.sort(Collections.reverseOrder());
+                for (int row : deletedRows) {
+                    remove(row);
+                }
+                return true;
+            }
+            case EntityEvent.EntitiesInvalidated<T> invalidated -> {
+                return false;
+            }
+        }
+    }
+
+    // put a saved entity in place of the row with its id, e.g. after an edit
+    public void replace(T entity) {
+        int row = rowOf(idOf.applyAsInt(entity));
+        if (row < 0) {
+            insert(entity);
+        } else if (filter.test(entity)) {
+            rows.set(row, entity);
+            fireTableRowsUpdated(row, row);
+        } else {
+            remove(row);
+        }
+    }
+
+    // where a new entity goes. -1 leaves it out, e.g. it sorts past the rows loaded so far
+    protected int insertionPoint(T entity) {
+        return rows.size();
+    }
+
+    // read only, changes go through the methods above so the id index stays right
+    protected List<T> rows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    private void insert(T entity) {
+        if (!filter.test(entity)) {
+            return;
+        }
+        int row = insertionPoint(entity);
+        if (row >= 0) {
+            if (row < rows.size()) {
+                rowNumbersStale = true;
+            }
+            rows.add(row, entity);
+            rowById.put(idOf.applyAsInt(entity), row);
+            fireTableRowsInserted(row, row);
+        }
+    }
+
+    private void remove(int row) {
+        T entity = rows.remove(row);
+        rowById.remove(idOf.applyAsInt(entity));
+        if (row < rows.size()) {
+            rowNumbersStale = true;
+        }
+        fireTableRowsDeleted(row, row);
+    }
+
+    private void addFiltered(List<T> entities) {
+        for (T entity : entities) {
+            if (filter.test(entity)) {
+                rowById.put(idOf.applyAsInt(entity), rows.size());
+                rows.add(entity);
+            }
+        }
+    }
+
+    private int rowOf(int id) {
+        if (rowNumbersStale) {
+            for (int i = 0; i < rows.size(); i++) {
+                rowById.put(idOf.applyAsInt(rows.get(i)), i);
+            }
+            rowNumbersStale = false;
+        }
+        Integer row = rowById.get(id);
+        return row != null ? row : -1;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        return columnMapper.valueAt(rows.get(row), column);
+    }
+}
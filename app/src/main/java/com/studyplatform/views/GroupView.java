@@ -1,5 +1,6 @@
 package com.studyplatform.views;
 
+import com.studyplatform.controllers.AsyncController;
 import com.studyplatform.controllers.GroupController;
 import com.studyplatform.models.Group;
 
@@ -8,6 +9,8 @@ import java.awt.*;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class GroupView extends JPanel {
     private GroupController groupController;
@@ -66,24 +69,32 @@ public class GroupView extends JPanel {
 
     private void createGroup() {
         String groupName = groupNameField.getText().trim();
-        try {
-            Group group = groupController.createGroup(groupName);
-            addGroupToList(group);
-            groupNameField.setText("");
-        } catch (IllegalArgumentException | IllegalStateException ex) {
-            JOptionPane.showMessageDialog(this, ex.getMessage());
-        }
+        AsyncController.supply(() -> groupController.createGroup(groupName))
+                .whenComplete((group, ex) -> {
+                    if (ex instanceof IllegalArgumentException || ex instanceof IllegalStateException) {
+                        JOptionPane.showMessageDialog(this, ex.getMessage());
+                    } else if (ex != null) {
+                        AsyncController.logFailure(ex);
+                    } else if (group != null) {
+                        addGroupToList(group);
+                        groupNameField.setText("");
+                    }
+                });
     }
 
     private void deleteGroup() {
         String groupName = groupNameField.getText().trim();
-        try {
-            groupController.deleteGroup(groupName);
-            removeGroupFromList(groupName);
-            groupNameField.setText("");
-        } catch (IllegalArgumentException | IllegalStateException ex) {
-            JOptionPane.showMessageDialog(this, ex.getMessage());
-        }
+        AsyncController.run(() -> groupController.deleteGroup(groupName))
+                .whenComplete((ignored, ex) -> {
+                    if (ex instanceof IllegalArgumentException || ex instanceof IllegalStateException) {
+                        JOptionPane.showMessageDialog(this, ex.getMessage());
+                    } else if (ex != null) {
+                        AsyncController.logFailure(ex);
+                    } else {
+                        removeGroupFromList(groupName);
+                        groupNameField.setText("");
+                    }
+                });
     }
 
     private void addGroupToList(Group group) {
@@ -94,8 +105,8 @@ public class GroupView extends JPanel {
         groupDetails.setEditable(false);
         groupPanel.add(new JScrollPane(groupDetails), BorderLayout.CENTER);
 
-        // Update initial group details
-        updateGroupDetails(group, groupDetails);
+        // Show initial group details. The group already has its members and files
+        showGroupDetails(group, groupDetails);
 
         // Button Panel
         JPanel buttonPanel = new JPanel(new GridLayout(1, 5));
@@ -147,16 +158,14 @@ public class GroupView extends JPanel {
     private void addMember(Group group, JTextArea groupDetails) {
         String memberName = JOptionPane.showInputDialog(this, "Enter member name:");
         if (memberName != null && !memberName.isEmpty()) {
-            groupController.addMemberToGroup(group.getName(), memberName);
-            updateGroupDetails(group, groupDetails);
+            updateGroupDetails(group, groupDetails, () -> groupController.addMemberToGroup(group.getName(), memberName));
         }
     }
 
     private void removeMember(Group group, JTextArea groupDetails) {
         String memberName = JOptionPane.showInputDialog(this, "Enter member name to remove:");
         if (memberName != null && !memberName.isEmpty()) {
-            groupController.removeMemberFromGroup(group.getName(), memberName);
-            updateGroupDetails(group, groupDetails);
+            updateGroupDetails(group, groupDetails, () -> groupController.removeMemberFromGroup(group.getName(), memberName));
         }
     }
 
@@ -176,23 +185,23 @@ public class GroupView extends JPanel {
                 this, schedulePanel, "Schedule Meeting", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
 
         if (result == JOptionPane.OK_OPTION) {
+            Date meetingTime;
             try {
-                Date meetingTime = new SimpleDateFormat("MM-dd-yyyy HH:mm").parse(
+                meetingTime = new SimpleDateFormat("MM-dd-yyyy HH:mm").parse(
                         dateField.getText() + " " + timeField.getText());
-                groupController.scheduleMeeting(group.getName(), meetingTime);
-                updateGroupDetails(group, groupDetails);
-                JOptionPane.showMessageDialog(this, "Meeting scheduled successfully!");
             } catch (ParseException e) {
                 JOptionPane.showMessageDialog(this, "Invalid date/time format. Please use MM-dd-yyyy and HH:mm.");
+                return;
             }
+            updateGroupDetails(group, groupDetails, () -> groupController.scheduleMeeting(group.getName(), meetingTime))
+                    .thenRun(() -> JOptionPane.showMessageDialog(this, "Meeting scheduled successfully!"));
         }
     }
 
     private void uploadFile(Group group, JTextArea groupDetails) {
         String fileName = JOptionPane.showInputDialog(this, "Enter file name to upload:");
         if (fileName != null && !fileName.isEmpty()) {
-            groupController.uploadFileToGroup(group.getName(), fileName);
-            updateGroupDetails(group, groupDetails);
+            updateGroupDetails(group, groupDetails, () -> groupController.uploadFileToGroup(group.getName(), fileName));
         }
     }
 
@@ -201,18 +210,34 @@ public class GroupView extends JPanel {
     }
 
     private void updateGroupList() {
+        AsyncController.supply(groupController::getAllGroups)
+                .thenAccept(this::showGroups)
+                .exceptionally(AsyncController::logFailure);
+    }
+
+    private void showGroups(Map<String, Group> groups) {
         groupListPanel.removeAll();
-        for (Group group : groupController.getAllGroups().values()) {
+        for (Group group : groups.values()) {
             addGroupToList(group);
         }
         groupListPanel.revalidate();
         groupListPanel.repaint();
     }
 
-    private void updateGroupDetails(Group group, JTextArea groupDetails) {
-        // Retrieve updated group from controller
-        Group updatedGroup = groupController.getGroup(group.getName());
-        
+    // Run a change in the background, then re-read the group there and show it
+    private CompletableFuture<Group> updateGroupDetails(Group group, JTextArea groupDetails,
+                                                       AsyncController.Action change) {
+        CompletableFuture<Group> update = AsyncController.supply(() -> {
+            change.run();
+            // Retrieve updated group from controller
+            return groupController.getGroup(group.getName());
+        });
+        update.thenAccept(updatedGroup -> showGroupDetails(updatedGroup, groupDetails))
+                .exceptionally(AsyncController::logFailure);
+        return update;
+    }
+
+    private void showGroupDetails(Group updatedGroup, JTextArea groupDetails) {
         if (updatedGroup != null) {
             // Format meeting time
             String formattedMeetingTime = (updatedGroup.getMeetingTime() != null)
@@ -0,0 +1,96 @@
+package com.studyplatform.views;
+
+import com.studyplatform.controllers.AsyncController;
+import com.studyplatform.controllers.NotificationController;
+import com.studyplatform.models.Notification;
+
+import java.text.SimpleDateFormat;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// lazy table model for the inbox. only the first page is read on open, further pages are read
+// with a keyset cursor when the table asks for rows near the end of what is loaded.
+// pages are read in the background and applied on the edt, so scrolling never waits for derby.
+// new, changed and cleared notifications are applied row by row from dao events
+public class NotificationTableModel extends EntityTableModel<Notification> {
+    // rows read per query
+    private static final int PAGE_SIZE = 100;
+    // start reading the next page when a row this close to the end is painted
+    private static final int PREFETCH_ROWS = 20;
+    private static final String[] COLUMN_NAMES = {"Title", "Description", "Timestamp", "Status"};
+    // same order as the inbox query: newest first, id breaks ties
+    private static final Comparator<Notification> INBOX_ORDER =
+            Comparator.comparing(Notification::getTimestamp).thenComparingInt(Notification::getId).reversed();
+
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("MM-dd-yyyy HH:mm");
+
+    private final NotificationController notificationController;
+    private boolean hasMore;
+    // page query in flight, at most one at a time
+    private CompletableFuture<List<Notification>> pendingLoad;
+
+    public NotificationTableModel(NotificationController notificationController) {
+        super(COLUMN_NAMES, Notification::getId, NotificationTableModel::valueAt, notification -> !notification.isDeleted());
+        this.notificationController = notificationController;
+    }
+
+    private static Object valueAt(Notification notification, int column) {
+        switch (column) {
+            case 0: return notification.getTitle();
+            case 1: return notification.getDescription();
+            case 2: return DATE_FORMAT.format(notification.getTimestamp());
+            default: return notification.isRead() ? "Read" : "Unread";
+        }
+    }
+
+    // read the first page again. the old rows stay visible until it arrives
+    public void reload() {
+        if (pendingLoad != null) {
+            pendingLoad.cancel(false);
+        }
+        pendingLoad = AsyncController.supply(() -> notificationController.getActiveNotificationsAfter(null, PAGE_SIZE));
+        pendingLoad.thenAccept(page -> {
+            hasMore = page.size() == PAGE_SIZE;
+            setRows(page);
+        }).exceptionally(AsyncController::logFailure);
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        prefetch(row);
+        return super.getValueAt(row, column);
+    }
+
+    // keep inbox order. a notification older than every loaded row comes with a later page instead
+    @Override
+    protected int insertionPoint(Notification notification) {
+        List<Notification> rows = rows();
+        int low = 0;
+        int high = rows.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (INBOX_ORDER.compare(rows.get(mid), notification) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low == rows.size() && hasMore ? -1 : low;
+    }
+
+    // getValueAt runs while the table paints. the page is only added to the model once it arrives
+    private void prefetch(int row) {
+        int rowCount = getRowCount();
+        if (!hasMore || !pendingLoad.isDone() || row < rowCount - PREFETCH_ROWS) {
+            return;
+        }
+
+        Notification last = getEntityAt(rowCount - 1);
+        pendingLoad = AsyncController.supply(() -> notificationController.getActiveNotificationsAfter(last, PAGE_SIZE));
+        pendingLoad.thenAccept(page -> {
+            hasMore = page.size() == PAGE_SIZE;
+            appendRows(page);
+        }).exceptionally(AsyncController::logFailure);
+    }
+}
@@ -1,30 +1,34 @@
 package com.studyplatform.views;
 
 // notification view
+import com.studyplatform.controllers.AsyncController;
 import com.studyplatform.controllers.NotificationController;
+import com.studyplatform.dao.DataChangeNotifier;
+import com.studyplatform.dao.EntityEvent;
 import com.studyplatform.models.Notification;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
-import java.text.SimpleDateFormat;
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 // view for notification. display and manage notification ui
 public class NotificationView extends JPanel {
     private NotificationController notificationController;
-    private DefaultTableModel notificationTableModel;
+    private NotificationTableModel notificationTableModel;
     // table for display notifications
     private JTable notificationTable;
     // label for show unread count
     private JLabel unreadCountLabel;
+    // unread count query in flight. a newer refresh cancels it
+    private CompletableFuture<Integer> pendingCount;
 
     public NotificationView(NotificationController notificationController) {
         this.notificationController = notificationController;
-        // register this view with controller
-        this.notificationController.registerView(this);
         // initialize ui components
         initializeComponents();
+        // apply notification writes to the table as they happen. reminders are written on the scheduler thread
+        DataChangeNotifier.addEntityListener(Notification.class,
+                event -> AsyncController.onEdt(() -> applyNotificationEvent(event)));
     }
 
     // initialize ui components
@@ -43,9 +47,8 @@ public class NotificationView extends JPanel {
         // add top panel to main panel
         add(topPanel, BorderLayout.NORTH);
 
-        // make table model for store notifications
-        String[] columnNames = {"Title", "Description", "Timestamp", "Status"};
-        notificationTableModel = new DefaultTableModel(columnNames, 0);
+        // make table model that reads notifications page by page as the table scrolls
+        notificationTableModel = new NotificationTableModel(notificationController);
         // make table for display notifications
         notificationTable = new JTable(notificationTableModel);
         JScrollPane tableScrollPane = new JScrollPane(notificationTable);
@@ -60,6 +63,11 @@ public class NotificationView extends JPanel {
         markReadButton.addActionListener(e -> markSelectedNotificationAsRead());
         buttonPanel.add(markReadButton);
 
+        // mark all as read button
+        JButton markAllReadButton = new JButton("Mark All as Read");
+        markAllReadButton.addActionListener(e -> markAllNotificationsAsRead());
+        buttonPanel.add(markAllReadButton);
+
         // clear all button
         JButton clearAllButton = new JButton("Clear All");
         clearAllButton.addActionListener(e -> clearAllNotifications());
@@ -78,20 +86,30 @@ public class NotificationView extends JPanel {
         int selectedRow = notificationTable.getSelectedRow();
         // check if row selected
         if (selectedRow >= 0) {
-            // get all notifications from controller
-            List<Notification> notifications = notificationController.getAllNotifications();
-            // get selected notification
-            Notification selectedNotification = notifications.get(selectedRow);
-            
+            // only the id leaves the edt. the update event replaces the row with the saved notification
+            int notificationId = notificationTableModel.getEntityAt(selectedRow).getId();
+
             // mark notification as read in controller
-            notificationController.markNotificationAsRead(selectedNotification);
-            refreshView();
+            AsyncController.supply(() -> notificationController.markNotificationAsRead(notificationId))
+                    .whenComplete((saved, ex) -> {
+                        if (ex != null) {
+                            AsyncController.logFailure(ex);
+                        } else if (saved == null) {
+                            JOptionPane.showMessageDialog(this, "Could not mark the notification as read.");
+                        }
+                    });
         } else {
             // show dialog if no notification selected
             JOptionPane.showMessageDialog(this, "No notification selected.");
         }
     }
 
+    // mark all notifications as read
+    private void markAllNotificationsAsRead() {
+        AsyncController.supply(notificationController::markAllNotificationsAsRead)
+                .exceptionally(AsyncController::logFailure);
+    }
+
     // clear all notifications
     private void clearAllNotifications() {
         // show confirm dialog
@@ -104,50 +122,32 @@ public class NotificationView extends JPanel {
         
         if (confirmDialog == JOptionPane.YES_OPTION) {
             // clear all notifications in controller
-            notificationController.clearAllNotifications();
-            refreshView();
+            AsyncController.supply(notificationController::clearAllNotifications)
+                    .exceptionally(AsyncController::logFailure);
         }
     }
 
-    // refresh view
+    // one row changes in place. bulk changes do not say which rows, so the first page is read again
+    private void applyNotificationEvent(EntityEvent<Notification> event) {
+        if (!notificationTableModel.apply(event)) {
+            notificationTableModel.reload();
+        }
+        refreshUnreadCount();
+    }
+
+    // refresh view. reads the first page and the unread count in the background. must be called on the edt
     public void refreshView() {
-        try {
-            // clear existing rows from table model
-            notificationTableModel.setRowCount(0);
-            
-            // get all non-deleted notifications from controller
-            List<Notification> notifications = notificationController.getAllNotifications();
-            SimpleDateFormat sdf = new SimpleDateFormat("MM-dd-yyyy HH:mm");
-            
-            // track unread count
-            int unreadCount = 0;
-            
-            // populate table model with notifications
-            for (Notification notification : notifications) {
-                // skip deleted notifications
-                if (notification.isDeleted()) continue;
-                
-                // check if notification is unread
-                if (!notification.isRead()) {
-                    // increment unread count
-                    unreadCount++;
-                }
-                
-                // add notification to table model
-                notificationTableModel.addRow(new Object[]{
-                    notification.getTitle(),
-                    notification.getDescription(),
-                    sdf.format(notification.getTimestamp()),
-                    notification.isRead() ? "Read" : "Unread"
-                });
-            }
-            
-            // update unread count label
-            unreadCountLabel.setText("Unread Notifications: " + unreadCount);
-            
-        } catch (Exception e) {
-            System.err.println("Error refreshing notifications: " + e.getMessage());
-            e.printStackTrace();
+        notificationTableModel.reload();
+        refreshUnreadCount();
+    }
+
+    private void refreshUnreadCount() {
+        if (pendingCount != null) {
+            pendingCount.cancel(false);
         }
+        pendingCount = AsyncController.supply(notificationController::getUnreadNotificationCount);
+        // update unread count label
+        pendingCount.thenAccept(count -> unreadCountLabel.setText("Unread Notifications: " + count))
+                .exceptionally(AsyncController::logFailure);
     }
 }
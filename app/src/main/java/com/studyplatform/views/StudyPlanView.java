@@ -1,15 +1,19 @@
 package com.studyplatform.views;
 
+import com.studyplatform.controllers.AsyncController;
 import com.studyplatform.controllers.StudyPlanController;
+import com.studyplatform.dao.DataChangeNotifier;
+import com.studyplatform.dao.EntityEvent;
 import com.studyplatform.models.Coursework;
 import com.studyplatform.models.StudyPlan;
+import com.studyplatform.util.DateUtil;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class StudyPlanView extends JPanel {
     private StudyPlanController studyPlanController;
@@ -18,7 +22,9 @@ public class StudyPlanView extends JPanel {
     private JList<String> courseList;
     private JList<String> studyPlanList;
     private JTable courseworkTable;
-    private DefaultTableModel courseworkTableModel;
+    private EntityTableModel<Coursework> courseworkTableModel;
+    // Study plan query in flight. A newer course selection cancels it
+    private CompletableFuture<List<StudyPlan>> pendingStudyPlans;
 
     public StudyPlanView(StudyPlanController studyPlanController) {
         this.studyPlanController = studyPlanController;
@@ -88,8 +94,9 @@ public class StudyPlanView extends JPanel {
     private void addCourse() {
         String courseName = JOptionPane.showInputDialog(this, "Enter course name:");
         if (courseName != null && !courseName.trim().isEmpty()) {
-            studyPlanController.addCourse(courseName);
-            courseListModel.addElement(courseName);
+            AsyncController.run(() -> studyPlanController.addCourse(courseName))
+                    .thenRun(() -> courseListModel.addElement(courseName))
+                    .exceptionally(AsyncController::logFailure);
         }
     }
 
@@ -97,7 +104,8 @@ public class StudyPlanView extends JPanel {
         String selectedCourse = courseList.getSelectedValue();
         if (selectedCourse != null) {
             courseListModel.removeElement(selectedCourse);
-            studyPlanController.getStudyPlansForCourse(selectedCourse).clear();
+            AsyncController.run(() -> studyPlanController.getStudyPlansForCourse(selectedCourse).clear())
+                    .exceptionally(AsyncController::logFailure);
         }
     }
 
@@ -106,8 +114,9 @@ public class StudyPlanView extends JPanel {
         if (selectedCourse != null) {
             String studyPlanName = JOptionPane.showInputDialog(this, "Enter study plan name:");
             if (studyPlanName != null && !studyPlanName.trim().isEmpty()) {
-                studyPlanController.createStudyPlan(selectedCourse, studyPlanName);
-                updateStudyPlanList();
+                AsyncController.supply(() -> studyPlanController.createStudyPlan(selectedCourse, studyPlanName))
+                        .thenRun(this::updateStudyPlanList)
+                        .exceptionally(AsyncController::logFailure);
             }
         }
     }
@@ -117,15 +126,23 @@ public class StudyPlanView extends JPanel {
         String selectedStudyPlan = studyPlanList.getSelectedValue();
         
         if (selectedCourse != null && selectedStudyPlan != null) {
-            List<StudyPlan> coursePlans = studyPlanController.getStudyPlansForCourse(selectedCourse);
-            StudyPlan targetPlan = coursePlans.stream()
-                    .filter(sp -> sp.getName().equals(selectedStudyPlan))
-                    .findFirst()
-                    .orElse(null);
-            
-            if (targetPlan != null) {
-                showCourseworkManagementDialog(targetPlan);
-            }
+            AsyncController.supply(() -> {
+                List<StudyPlan> coursePlans = studyPlanController.getStudyPlanSummariesForCourse(selectedCourse);
+                StudyPlan targetPlan = coursePlans.stream()
+                        .filter(sp -> sp.getName().equals(selectedStudyPlan))
+                        .findFirst()
+                        .orElse(null);
+
+                if (targetPlan != null) {
+                    // Only the opened plan needs its courseworks
+                    studyPlanController.loadCourseworks(targetPlan);
+                }
+                return targetPlan;
+            }).thenAccept(targetPlan -> {
+                if (targetPlan != null) {
+                    showCourseworkManagementDialog(targetPlan);
+                }
+            }).exceptionally(AsyncController::logFailure);
         }
     }
 
@@ -134,20 +151,26 @@ public class StudyPlanView extends JPanel {
         String selectedStudyPlan = studyPlanList.getSelectedValue();
 
         if (selectedCourse != null && selectedStudyPlan != null) {
-            studyPlanController.deleteStudyPlan(selectedCourse, selectedStudyPlan);
-            updateStudyPlanList();
+            AsyncController.run(() -> studyPlanController.deleteStudyPlan(selectedCourse, selectedStudyPlan))
+                    .thenRun(this::updateStudyPlanList)
+                    .exceptionally(AsyncController::logFailure);
         }
     }
 
     private void updateStudyPlanList() {
+        if (pendingStudyPlans != null) {
+            pendingStudyPlans.cancel(false);
+        }
         String selectedCourse = courseList.getSelectedValue();
         studyPlanListModel.clear();
         
         if (selectedCourse != null) {
-            List<StudyPlan> plans = studyPlanController.getStudyPlansForCourse(selectedCourse);
-            for (StudyPlan sp : plans) {
-                studyPlanListModel.addElement(sp.getName());
-            }
+            pendingStudyPlans = AsyncController.supply(() -> studyPlanController.getStudyPlanSummariesForCourse(selectedCourse));
+            pendingStudyPlans.thenAccept(plans -> {
+                for (StudyPlan sp : plans) {
+                    studyPlanListModel.addElement(sp.getName());
+                }
+            }).exceptionally(AsyncController::logFailure);
         }
     }
 
@@ -159,12 +182,19 @@ public class StudyPlanView extends JPanel {
 
         // Coursework Table
         String[] columnNames = {"Name", "Details", "Due Date", "Status"};
-        courseworkTableModel = new DefaultTableModel(columnNames, 0);
+        courseworkTableModel = new EntityTableModel<>(columnNames, Coursework::getId, StudyPlanView::courseworkValueAt,
+                cw -> cw.getStudyPlanId() == studyPlan.getId());
         courseworkTable = new JTable(courseworkTableModel);
         JScrollPane tableScrollPane = new JScrollPane(courseworkTable);
 
         // Populate table
-        refreshCourseworkTable(studyPlan);
+        courseworkTableModel.setRows(studyPlan.getCourseworkList());
+
+        // Coursework writes are applied row by row while the dialog is open
+        EntityTableModel<Coursework> tableModel = courseworkTableModel;
+        DataChangeNotifier.EntityListener<Coursework> listener =
+                event -> AsyncController.onEdt(() -> applyCourseworkEvent(studyPlan, tableModel, event));
+        DataChangeNotifier.addEntityListener(Coursework.class, listener);
 
         // Button Panel
         JPanel buttonPanel = new JPanel(new GridLayout(1, 3));
@@ -185,19 +215,27 @@ public class StudyPlanView extends JPanel {
         dialog.add(buttonPanel, BorderLayout.SOUTH);
 
         dialog.setLocationRelativeTo(this);
+        // The dialog is modal, so this returns once it is closed
         dialog.setVisible(true);
+        DataChangeNotifier.removeEntityListener(Coursework.class, listener);
     }
 
-    private void refreshCourseworkTable(StudyPlan studyPlan) {
-        courseworkTableModel.setRowCount(0);
+    // Apply one coursework change, or load the plan's courseworks again when the event does not say which rows changed
+    private void applyCourseworkEvent(StudyPlan studyPlan, EntityTableModel<Coursework> tableModel,
+                                      EntityEvent<Coursework> event) {
+        if (!tableModel.apply(event)) {
+            AsyncController.run(() -> studyPlanController.loadCourseworks(studyPlan))
+                    .thenRun(() -> tableModel.setRows(studyPlan.getCourseworkList()))
+                    .exceptionally(AsyncController::logFailure);
+        }
+    }
 
-        for (Coursework cw : studyPlan.getCourseworkList()) {
-            courseworkTableModel.addRow(new Object[]{
-                cw.getName(),
-                cw.getDetails() == null ? "Not set" : cw.getDetails(),
-                cw.getDueDate() == null ? "Not set" : cw.getDueDate(),
-                cw.getStatus() == null ? "Not set" : cw.getStatus()
-            });
+    private static Object courseworkValueAt(Coursework cw, int column) {
+        switch (column) {
+            case 0: return cw.getName();
+            case 1: return cw.getDetails() == null ? "Not set" : cw.getDetails();
+            case 2: return cw.getDueDate() == null ? "Not set" : DateUtil.format(cw.getDueDate());
+            default: return cw.getStatus() == null ? "Not set" : cw.getStatus();
         }
     }
 
@@ -230,17 +268,12 @@ public class StudyPlanView extends JPanel {
                     return;
                 }
 
-                String dueDate = dueDateField.getText().trim();
-
-                if (!dueDate.isEmpty()) {
-                    try {
-                        SimpleDateFormat sdf = new SimpleDateFormat("MM-dd-yyyy");
-                        sdf.setLenient(false);  // Strict date parsing
-                        sdf.parse(dueDate);
-                    } catch (ParseException ex) {
-                        JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
-                        return;
-                    }
+                LocalDate dueDate;
+                try {
+                    dueDate = DateUtil.parse(dueDateField.getText());
+                } catch (ParseException ex) {
+                    JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
+                    return;
                 }
 
                 // Create coursework
@@ -251,10 +284,8 @@ public class StudyPlanView extends JPanel {
                 coursework.setStatus((String) statusComboBox.getSelectedItem());
 
                 // Add to study plan via controller
-                studyPlanController.addCourseworkToStudyPlan(studyPlan, coursework);
-
-                // Refresh table
-                refreshCourseworkTable(studyPlan);
+                runCourseworkChange("Error adding coursework: ",
+                        () -> studyPlanController.addCourseworkToStudyPlan(studyPlan, coursework));
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error adding coursework: " + ex.getMessage());
             }
@@ -269,17 +300,14 @@ public class StudyPlanView extends JPanel {
         }
 
         // Get the selected coursework
-        Coursework selectedCoursework = studyPlan.getCourseworkList().get(selectedRow);
+        Coursework selectedCoursework = courseworkTableModel.getEntityAt(selectedRow);
 
         JPanel inputPanel = new JPanel(new GridLayout(4, 2));
         JTextField nameField = new JTextField(selectedCoursework.getName());
         JTextField detailsField = new JTextField(selectedCoursework.getDetails() == null ? "" : selectedCoursework.getDetails());
         
         // Format due date if exists
-        JTextField dueDateField = new JTextField();
-        if (selectedCoursework.getDueDate() != null) {
-            dueDateField.setText(new SimpleDateFormat("MM-dd-yyyy").format(selectedCoursework.getDueDate()));
-        }
+        JTextField dueDateField = new JTextField(DateUtil.format(selectedCoursework.getDueDate()));
 
         String[] statusTypes = {"Not Started", "In Progress", "Completed"};
         JComboBox<String> statusComboBox = new JComboBox<>(statusTypes);
@@ -307,17 +335,12 @@ public class StudyPlanView extends JPanel {
                 }
 
                 // Parse due date
-                String dueDate = dueDateField.getText().trim();
-
-                if (!dueDate.isEmpty()) {
-                    try {
-                        SimpleDateFormat sdf = new SimpleDateFormat("MM-dd-yyyy");
-                        sdf.setLenient(false);  // Strict date parsing
-                        sdf.parse(dueDate);
-                    } catch (ParseException ex) {
-                        JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
-                        return;
-                    }
+                LocalDate dueDate;
+                try {
+                    dueDate = DateUtil.parse(dueDateField.getText());
+                } catch (ParseException ex) {
+                    JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
+                    return;
                 }
 
                 // Update coursework
@@ -327,10 +350,8 @@ public class StudyPlanView extends JPanel {
                 selectedCoursework.setStatus((String) statusComboBox.getSelectedItem());
 
                 // Update via controller
-                studyPlanController.updateCoursework(studyPlan, selectedCoursework);
-
-                // Refresh table
-                refreshCourseworkTable(studyPlan);
+                runCourseworkChange("Error updating coursework: ",
+                        () -> studyPlanController.updateCoursework(studyPlan, selectedCoursework));
             } catch (Exception ex) {
                 JOptionPane.showMessageDialog(this, "Error updating coursework: " + ex.getMessage());
             }
@@ -345,7 +366,7 @@ public class StudyPlanView extends JPanel {
         }
 
         // Get the selected coursework
-        Coursework selectedCoursework = studyPlan.getCourseworkList().get(selectedRow);
+        Coursework selectedCoursework = courseworkTableModel.getEntityAt(selectedRow);
 
         int confirm = JOptionPane.showConfirmDialog(
                 this, 
@@ -355,29 +376,33 @@ public class StudyPlanView extends JPanel {
         );
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                // Delete via controller
-                studyPlanController.removeCourseworkFromStudyPlan(studyPlan, selectedCoursework);
+            // Delete via controller
+            runCourseworkChange("Error deleting coursework: ",
+                    () -> studyPlanController.removeCourseworkFromStudyPlan(studyPlan, selectedCoursework));
+        }
+    }
 
-                // Refresh table
-                refreshCourseworkTable(studyPlan);
-            } catch (Exception ex) {
-                JOptionPane.showMessageDialog(this, "Error deleting coursework: " + ex.getMessage());
+    // Run a coursework change in the background. The table picks the change up from its coursework event
+    private void runCourseworkChange(String errorMessage, AsyncController.Action change) {
+        AsyncController.run(change).whenComplete((ignored, ex) -> {
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, errorMessage + ex.getMessage());
             }
-        }
+        });
     }
 
     // Add this method to load existing courses when the view is initialized
     public void loadExistingCourses() {
-        try {
-            // Fetch courses from the database
-            List<String> courses = studyPlanController.getAllCourses();
+        // Fetch courses from the database in the background
+        AsyncController.supply(studyPlanController::getAllCourses).whenComplete((courses, ex) -> {
+            if (ex != null) {
+                JOptionPane.showMessageDialog(this, "Error loading courses: " + ex.getMessage());
+                return;
+            }
             courseListModel.clear();
             for (String course : courses) {
                 courseListModel.addElement(course);
             }
-        } catch (Exception ex) {
-            JOptionPane.showMessageDialog(this, "Error loading courses: " + ex.getMessage());
-        }
+        });
     }
 }
@@ -1,12 +1,17 @@
 package com.studyplatform.views;
 
+import com.studyplatform.controllers.AsyncController;
 import com.studyplatform.controllers.TaskController;
+import com.studyplatform.dao.DataChangeNotifier;
+import com.studyplatform.dao.EntityEvent;
 import com.studyplatform.models.Task;
+import com.studyplatform.util.DateUtil;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.text.ParseException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class TaskView extends JPanel {
     private TaskController taskController;
@@ -14,8 +19,10 @@ public class TaskView extends JPanel {
     private JTextField taskDescriptionField;
     private JComboBox<String> taskTypeComboBox;
     private JTextField taskDueDateField;
-    private DefaultTableModel taskTableModel;
+    private EntityTableModel<Task> taskTableModel;
     private JTable taskTable;
+    // task query in flight. a newer refresh cancels it
+    private CompletableFuture<List<Task>> pendingRefresh;
 
     private static final String[] TASK_TYPES = { "Assignment", "Project", "Homework" };
     private static final String[] STATUS_TYPES = { "Not Started", "In Progress", "Completed" };
@@ -23,6 +30,9 @@ public class TaskView extends JPanel {
     public TaskView(TaskController taskController) {
         this.taskController = taskController;
         initializeComponents();
+        // Task writes are applied to the table row by row
+        DataChangeNotifier.addEntityListener(Task.class,
+                event -> AsyncController.onEdt(() -> applyTaskEvent(event)));
     }
 
     private void initializeComponents() {
@@ -87,7 +97,7 @@ public class TaskView extends JPanel {
 
         // Task Table
         String[] columnNames = { "Title", "Description", "Type", "Due Date", "Status" };
-        taskTableModel = new DefaultTableModel(columnNames, 0);
+        taskTableModel = new EntityTableModel<>(columnNames, Task::getId, TaskView::valueAt);
         taskTable = new JTable(taskTableModel);
         JScrollPane taskScrollPane = new JScrollPane(taskTable);
 
@@ -113,38 +123,38 @@ public class TaskView extends JPanel {
     }
 
     private void createTask() {
-        try {
-            String title = taskTitleField.getText();
-            String description = taskDescriptionField.getText();
-            String type = (String) taskTypeComboBox.getSelectedItem();
-            String dueDateStr = taskDueDateField.getText();
-            String status = "Not Started";
-
-            taskController.createTask(title, description, type, dueDateStr, status);
-
-            // Clear input fields
-            taskTitleField.setText("");
-            taskDescriptionField.setText("");
-            taskDueDateField.setText("");
-
-            // Refresh table
-            refreshTaskTable();
-        } catch (ParseException ex) {
-            JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
-        }
+        String title = taskTitleField.getText();
+        String description = taskDescriptionField.getText();
+        String type = (String) taskTypeComboBox.getSelectedItem();
+        String dueDateStr = taskDueDateField.getText();
+        String status = "Not Started";
+
+        AsyncController.supply(() -> taskController.createTask(title, description, type, dueDateStr, status))
+                .whenComplete((task, ex) -> {
+                    if (ex instanceof ParseException) {
+                        JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
+                    } else if (ex != null) {
+                        AsyncController.logFailure(ex);
+                    } else {
+                        // Clear input fields
+                        taskTitleField.setText("");
+                        taskDescriptionField.setText("");
+                        taskDueDateField.setText("");
+                    }
+                });
     }
 
     private void editTask() {
         int selectedRow = taskTable.getSelectedRow();
         if (selectedRow >= 0) {
-            Task selectedTask = taskController.getAllTasks().get(selectedRow);
+            Task selectedTask = taskTableModel.getEntityAt(selectedRow);
 
             // Create input panel for editing
             JTextField titleField = new JTextField(selectedTask.getTitle());
             JTextField descriptionField = new JTextField(selectedTask.getDescription());
             JComboBox<String> typeComboBox = new JComboBox<>(TASK_TYPES);
             typeComboBox.setSelectedItem(selectedTask.getType());
-            JTextField dueDateField = new JTextField(selectedTask.getDueDate());
+            JTextField dueDateField = new JTextField(DateUtil.format(selectedTask.getDueDate()));
             JComboBox<String> statusComboBox = new JComboBox<>(STATUS_TYPES);
             statusComboBox.setSelectedItem(selectedTask.getStatus());
 
@@ -164,20 +174,25 @@ public class TaskView extends JPanel {
                     this, editPanel, "Update Task", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
 
             if (result == JOptionPane.OK_OPTION) {
-                try {
-                    taskController.updateTask(
-                            selectedTask,
-                            titleField.getText(),
-                            descriptionField.getText(),
-                            (String) typeComboBox.getSelectedItem(),
-                            dueDateField.getText(),
-                            (String) statusComboBox.getSelectedItem()
-                    );
-
-                    refreshTaskTable();
-                } catch (ParseException ex) {
-                    JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
-                }
+                String title = titleField.getText();
+                String description = descriptionField.getText();
+                String type = (String) typeComboBox.getSelectedItem();
+                String dueDateStr = dueDateField.getText();
+                String status = (String) statusComboBox.getSelectedItem();
+
+                // Only the id and the new values leave the EDT. The row keeps the task it shows until
+                // the saved one comes back
+                int taskId = selectedTask.getId();
+                AsyncController.supply(() -> taskController.updateTask(taskId, title, description, type, dueDateStr, status))
+                        .whenComplete((saved, ex) -> {
+                            if (ex instanceof ParseException) {
+                                JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
+                            } else if (ex != null) {
+                                AsyncController.logFailure(ex);
+                            } else if (saved != null) {
+                                taskTableModel.replace(saved);
+                            }
+                        });
             }
         } else {
             JOptionPane.showMessageDialog(this, "No task selected.");
@@ -187,27 +202,38 @@ public class TaskView extends JPanel {
     private void deleteTask() {
         int selectedRow = taskTable.getSelectedRow();
         if (selectedRow >= 0) {
-            Task selectedTask = taskController.getAllTasks().get(selectedRow);
-            taskController.deleteTask(selectedTask);
-            refreshTaskTable();
-            JOptionPane.showMessageDialog(this, "Task deleted successfully.");
+            Task selectedTask = taskTableModel.getEntityAt(selectedRow);
+            AsyncController.run(() -> taskController.deleteTask(selectedTask))
+                    .thenRun(() -> JOptionPane.showMessageDialog(this, "Task deleted successfully."))
+                    .exceptionally(AsyncController::logFailure);
         } else {
             JOptionPane.showMessageDialog(this, "No task selected.");
         }
     }
 
+    // Load tasks in the background and fill the table when they arrive
     private void refreshTaskTable() {
-        // Clear existing rows
-        taskTableModel.setRowCount(0);
-
-        for (Task task : taskController.getAllTasks()) {
-            taskTableModel.addRow(new Object[] {
-                    task.getTitle(),
-                    task.getDescription(),
-                    task.getType(),
-                    task.getDueDate(),
-                    task.getStatus()
-            });
+        if (pendingRefresh != null) {
+            pendingRefresh.cancel(false);
+        }
+        pendingRefresh = AsyncController.supply(taskController::getAllTasks);
+        pendingRefresh.thenAccept(taskTableModel::setRows).exceptionally(AsyncController::logFailure);
+    }
+
+    // Apply one change to the table, or load all tasks again when the event does not say which rows changed
+    private void applyTaskEvent(EntityEvent<Task> event) {
+        if (!taskTableModel.apply(event)) {
+            refreshTaskTable();
+        }
+    }
+
+    private static Object valueAt(Task task, int column) {
+        switch (column) {
+            case 0: return task.getTitle();
+            case 1: return task.getDescription();
+            case 2: return task.getType();
+            case 3: return DateUtil.format(task.getDueDate());
+            default: return task.getStatus();
         }
     }
 }
@@ -1,20 +1,25 @@
 package com.studyplatform.views;
 
+import com.studyplatform.controllers.AsyncController;
 import com.studyplatform.controllers.TutorController;
 import com.studyplatform.models.Tutor;
+import com.studyplatform.util.DateUtil;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class TutorView extends JPanel {
     private TutorController tutorController;
     private JComboBox<String> classDropdown;
     private DefaultTableModel sessionTableModel;
     private JTable sessionTable;
+    // tutor query in flight. a newer class selection cancels it
+    private CompletableFuture<List<Tutor>> pendingSessions;
 
     public TutorView(TutorController tutorController) {
         this.tutorController = tutorController;
@@ -27,9 +32,9 @@ public class TutorView extends JPanel {
         JPanel topPanel = new JPanel(new FlowLayout(FlowLayout.LEFT));
         classDropdown = new JComboBox<>();
         classDropdown.addItem("Select a Class");
-        
-        List<String> uniqueClasses = tutorController.getUniqueTutorClasses();
-        uniqueClasses.forEach(classDropdown::addItem);
+        AsyncController.supply(tutorController::getUniqueTutorClasses)
+                .thenAccept(this::showClasses)
+                .exceptionally(AsyncController::logFailure);
 
         classDropdown.addActionListener(e -> updateSessionTable());
         topPanel.add(new JLabel("Class:"));
@@ -55,7 +60,16 @@ public class TutorView extends JPanel {
         add(buttonPanel, BorderLayout.SOUTH);
     }
 
+    private void showClasses(List<String> classes) {
+        classDropdown.removeAllItems();
+        classDropdown.addItem("Select a Class");
+        classes.forEach(classDropdown::addItem);
+    }
+
     private void updateSessionTable() {
+        if (pendingSessions != null) {
+            pendingSessions.cancel(false);
+        }
         sessionTableModel.setRowCount(0);
 
         String selectedClass = (String) classDropdown.getSelectedItem();
@@ -63,11 +77,15 @@ public class TutorView extends JPanel {
             return;
         }
 
-        List<Tutor> tutors = tutorController.getTutorsByClass(selectedClass);
+        pendingSessions = AsyncController.supply(() -> tutorController.getTutorsByClass(selectedClass));
+        pendingSessions.thenAccept(this::showSessions).exceptionally(AsyncController::logFailure);
+    }
+
+    private void showSessions(List<Tutor> tutors) {
         for (Tutor tutor : tutors) {
             sessionTableModel.addRow(new Object[]{
                 tutor.getName(),
-                tutor.getAvailableDate(),
+                DateUtil.format(tutor.getAvailableDate()),
                 tutor.getLocation(),
                 tutor.isScheduled() ? "Yes" : "No"
             });
@@ -82,24 +100,29 @@ public class TutorView extends JPanel {
         }
 
         String tutorName = (String) sessionTableModel.getValueAt(selectedRow, 0);
-        
-        try {
+
+        // look up and schedule in one background call. null means the tutor is gone
+        AsyncController.supply(() -> {
             Tutor tutor = tutorController.findTutorByName(tutorName);
-            if (tutor != null) {
-                if (tutor.isScheduled()) {
-                    JOptionPane.showMessageDialog(this, "This session is already scheduled.");
-                    return;
-                }
-
-                tutorController.scheduleTutorSession(tutorName);
-                
+            if (tutor == null) {
+                return null;
+            }
+            if (tutor.isScheduled()) {
+                return "This session is already scheduled.";
+            }
+            return tutorController.scheduleTutorSession(tutorName)
+                    ? "Session scheduled successfully."
+                    : "Could not schedule the session.";
+        }).whenComplete((message, e) -> {
+            if (e != null) {
+                JOptionPane.showMessageDialog(this, "Error scheduling session: " + e.getMessage());
+            } else if (message != null) {
+                // the table may be older than the tutor's scheduled flag either way
                 updateSessionTable();
-                
-                JOptionPane.showMessageDialog(this, "Session scheduled successfully.");
+
+                JOptionPane.showMessageDialog(this, message);
             }
-        } catch (Exception e) {
-            JOptionPane.showMessageDialog(this, "Error scheduling session: " + e.getMessage());
-        }
+        });
     }
 
     private void volunteerAsTutor() {
@@ -125,30 +148,31 @@ public class TutorView extends JPanel {
                 JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
 
         if (result == JOptionPane.OK_OPTION) {
-            try {
-                String name = nameField.getText().trim();
-                String tutorClass = classField.getText().trim();
-                String availableDate = availableDateField.getText().trim();
-                String location = locationField.getText().trim();
-
-                if (name.isEmpty() || tutorClass.isEmpty() || availableDate.isEmpty() || location.isEmpty()) {
-                    JOptionPane.showMessageDialog(this, "All fields must be filled.");
-                    return;
-                }
-
-                new SimpleDateFormat("MM-dd-yyyy").parse(availableDate);
-
-                tutorController.addTutor(name, tutorClass, availableDate, location);
-
-                List<String> classes = tutorController.getUniqueTutorClasses();
-                classDropdown.removeAllItems();
-                classDropdown.addItem("Select a Class");
-                classes.forEach(classDropdown::addItem);
+            String name = nameField.getText().trim();
+            String tutorClass = classField.getText().trim();
+            String availableDate = availableDateField.getText().trim();
+            String location = locationField.getText().trim();
+
+            if (name.isEmpty() || tutorClass.isEmpty() || availableDate.isEmpty() || location.isEmpty()) {
+                JOptionPane.showMessageDialog(this, "All fields must be filled.");
+                return;
+            }
 
-                JOptionPane.showMessageDialog(this, "Tutor added successfully!");
+            LocalDate parsedDate;
+            try {
+                parsedDate = DateUtil.parse(availableDate);
             } catch (ParseException e) {
                 JOptionPane.showMessageDialog(this, "Invalid date format. Please use MM-dd-yyyy.");
+                return;
             }
+
+            AsyncController.supply(() -> {
+                tutorController.addTutor(name, tutorClass, parsedDate, location);
+                return tutorController.getUniqueTutorClasses();
+            }).thenAccept(classes -> {
+                showClasses(classes);
+                JOptionPane.showMessageDialog(this, "Tutor added successfully!");
+            }).exceptionally(AsyncController::logFailure);
         }
     }
 }
@@ -0,0 +1,242 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.SchemaMigrator;
+import com.studyplatform.util.DatabaseUtil;
+import com.studyplatform.util.DateUtil;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+
+// in-memory derby database seeded once per fork. every suite forks with
+// -Dstudyplatform.db.url=jdbc:derby:memory:..., so nothing touches the on-disk studydb
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+    // rows bound per executeBatch and per commit while seeding
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final int COURSE_COUNT = 20;
+    private static final int TUTOR_CLASS_COUNT = 50;
+    private static final int MEMBERS_PER_GROUP = 10;
+    private static final int FILES_PER_GROUP = 2;
+    private static final int COURSEWORKS_PER_PLAN = 10;
+    // due dates are spread over today +/- this many days
+    private static final int DATE_SPREAD_DAYS = 180;
+
+    // tasks and notifications. tutors, students, groups and study plans scale down from it
+    @Param({"1000", "100000", "1000000"})
+    public int scale;
+
+    public int tasks;
+    public int notifications;
+    public int tutors;
+    public int students;
+    public int groups;
+    public int studyPlans;
+
+    @Setup(Level.Trial)
+    public void seed() throws SQLException {
+        tasks = scale;
+        notifications = scale;
+        tutors = Math.max(scale / 10, TUTOR_CLASS_COUNT);
+        students = Math.max(scale / 10, MEMBERS_PER_GROUP);
+        groups = Math.max(scale / 100, 1);
+        studyPlans = Math.max(scale / 100, 1);
+
+        SchemaMigrator.migrate();
+        long start = System.nanoTime();
+        seedTasks();
+        seedNotifications();
+        seedTutors();
+        seedGroups();
+        seedStudyPlans();
+        System.out.printf("Seeded scale %d in %d ms (pool: %s)%n",
+                scale, (System.nanoTime() - start) / 1_000_000, DatabaseUtil.getPoolStats());
+    }
+
+    private void seedTasks() throws SQLException {
+        String[] types = {"Assignment", "Project", "Exam", "Reading"};
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO TASKS (title, description, type, due_date, status) VALUES (?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 1; i <= tasks; i++) {
+                pstmt.setString(1, taskTitle(i));
+                pstmt.setString(2, "Benchmark task " + i);
+                pstmt.setString(3, types[i % types.length]);
+                pstmt.setDate(4, DateUtil.toSqlDate(spreadDate(i)));
+                pstmt.setString(5, i % 4 == 0 ? "Completed" : "Pending");
+                addToBatch(conn, pstmt, i);
+            }
+            flush(conn, pstmt);
+        }
+    }
+
+    private void seedNotifications() throws SQLException {
+        long now = System.currentTimeMillis();
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO NOTIFICATIONS (title, description, timestamp, is_read, is_deleted, dedup_key) " +
+                     "VALUES (?, ?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 1; i <= notifications; i++) {
+                pstmt.setString(1, "Notification " + i);
+                pstmt.setString(2, "Benchmark notification " + i);
+                pstmt.setTimestamp(3, new Timestamp(now - i * 60_000L));
+                // most history is read, a tail is unread, a few are cleared
+                pstmt.setBoolean(4, i % 10 != 0);
+                pstmt.setBoolean(5, i % 20 == 0);
+                pstmt.setString(6, dedupKey(i));
+                addToBatch(conn, pstmt, i);
+            }
+            flush(conn, pstmt);
+        }
+    }
+
+    private void seedTutors() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(
+                     "INSERT INTO TUTORS (name, tutor_class, available_date, location, scheduled) VALUES (?, ?, ?, ?, ?)")) {
+            conn.setAutoCommit(false);
+            for (int i = 1; i <= tutors; i++) {
+                pstmt.setString(1, tutorName(i));
+                pstmt.setString(2, tutorClass(i));
+                pstmt.setDate(3, DateUtil.toSqlDate(spreadDate(i)));
+                pstmt.setString(4, "Room " + (i % 100));
+                pstmt.setBoolean(5, i % 3 == 0);
+                addToBatch(conn, pstmt, i);
+            }
+            flush(conn, pstmt);
+        }
+    }
+
+    private void seedGroups() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO GROUPS (name) VALUES (?)")) {
+                for (int i = 1; i <= groups; i++) {
+                    pstmt.setString(1, groupName(i));
+                    addToBatch(conn, pstmt, i);
+                }
+                flush(conn, pstmt);
+            }
+
+            // fresh identity columns, so group ids are 1..groups
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO GROUP_MEMBERS (group_id, member_name) VALUES (?, ?)")) {
+                int rows = 0;
+                for (int i = 1; i <= groups; i++) {
+                    for (int k = 0; k < MEMBERS_PER_GROUP; k++) {
+                        pstmt.setInt(1, i);
+                        pstmt.setString(2, studentName((i * MEMBERS_PER_GROUP + k) % students + 1));
+                        addToBatch(conn, pstmt, ++rows);
+                    }
+                }
+                flush(conn, pstmt);
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO GROUP_FILES (group_id, file_name) VALUES (?, ?)")) {
+                int rows = 0;
+                for (int i = 1; i <= groups; i++) {
+                    for (int k = 0; k < FILES_PER_GROUP; k++) {
+                        pstmt.setInt(1, i);
+                        pstmt.setString(2, "file-" + i + "-" + k + ".pdf");
+                        addToBatch(conn, pstmt, ++rows);
+                    }
+                }
+                flush(conn, pstmt);
+            }
+        }
+    }
+
+    private void seedStudyPlans() throws SQLException {
+        try (Connection conn = DatabaseUtil.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement("INSERT INTO COURSES (name) VALUES (?)")) {
+                for (int c = 1; c <= COURSE_COUNT; c++) {
+                    pstmt.setString(1, courseName(c));
+                    pstmt.addBatch();
+                }
+                flush(conn, pstmt);
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO STUDY_PLANS (course_id, name) VALUES (?, ?)")) {
+                for (int i = 1; i <= studyPlans; i++) {
+                    pstmt.setInt(1, i % COURSE_COUNT + 1);
+                    pstmt.setString(2, planName(i));
+                    addToBatch(conn, pstmt, i);
+                }
+                flush(conn, pstmt);
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO COURSEWORKS (study_plan_id, name, details, due_date, status) VALUES (?, ?, ?, ?, ?)")) {
+                int rows = 0;
+                for (int i = 1; i <= studyPlans; i++) {
+                    for (int k = 0; k < COURSEWORKS_PER_PLAN; k++) {
+                        rows++;
+                        pstmt.setInt(1, i);
+                        pstmt.setString(2, "coursework-" + i + "-" + k);
+                        pstmt.setString(3, "Benchmark coursework");
+                        pstmt.setDate(4, DateUtil.toSqlDate(spreadDate(rows)));
+                        pstmt.setString(5, "Not Started");
+                        addToBatch(conn, pstmt, rows);
+                    }
+                }
+                flush(conn, pstmt);
+            }
+        }
+    }
+
+    private static void addToBatch(Connection conn, PreparedStatement pstmt, int row) throws SQLException {
+        pstmt.addBatch();
+        if (row % SEED_BATCH_SIZE == 0) {
+            flush(conn, pstmt);
+        }
+    }
+
+    private static void flush(Connection conn, PreparedStatement pstmt) throws SQLException {
+        pstmt.executeBatch();
+        conn.commit();
+    }
+
+    private static LocalDate spreadDate(int i) {
+        return LocalDate.now().plusDays(i % (2 * DATE_SPREAD_DAYS + 1) - DATE_SPREAD_DAYS);
+    }
+
+    // names of seeded rows, so suites can look them up without knowing the seeding order
+
+    public static String taskTitle(int i) { return "task-" + i; }
+    public static String dedupKey(int i) { return "SEED:" + i; }
+    public static String tutorName(int i) { return "tutor-" + i; }
+    public static String tutorClass(int i) { return "class-" + (i % TUTOR_CLASS_COUNT); }
+    public static String studentName(int i) { return "student-" + i; }
+    public static String groupName(int i) { return "group-" + i; }
+    public static String courseName(int c) { return "course-" + c; }
+    public static String planName(int i) { return "plan-" + i; }
+
+    // random 1-based index of a seeded row. identity ids match these since every table starts empty
+
+    public int randomTask() { return random(tasks); }
+    public int randomNotification() { return random(notifications); }
+    public int randomTutor() { return random(tutors); }
+    public int randomStudent() { return random(students); }
+    public int randomGroup() { return random(groups); }
+    public int randomStudyPlan() { return random(studyPlans); }
+    public int randomCourse() { return random(COURSE_COUNT); }
+    public int randomTutorClass() { return random(TUTOR_CLASS_COUNT); }
+
+    private static int random(int count) {
+        return ThreadLocalRandom.current().nextInt(1, count + 1);
+    }
+}
@@ -0,0 +1,139 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.controllers.GroupController;
+import com.studyplatform.controllers.NotificationController;
+import com.studyplatform.controllers.StudyPlanController;
+import com.studyplatform.controllers.TaskController;
+import com.studyplatform.controllers.TutorController;
+import com.studyplatform.models.Group;
+import com.studyplatform.models.Notification;
+import com.studyplatform.models.StudyPlan;
+import com.studyplatform.models.Task;
+import com.studyplatform.models.Tutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// the lookups the views make through the controllers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class ControllerLookupBenchmark {
+    private TaskController taskController;
+    private TutorController tutorController;
+    private GroupController groupController;
+    private StudyPlanController studyPlanController;
+    private NotificationController notificationController;
+
+    // controllers are built after seeding, so the schema is already current when they migrate
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        taskController = new TaskController();
+        tutorController = new TutorController();
+        groupController = new GroupController();
+        studyPlanController = new StudyPlanController();
+        notificationController = new NotificationController();
+    }
+
+    // controller lookups are served from the entity caches after the first call, so report how often
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        notificationController.shutdown();
+        System.out.println(taskController.getCacheStats());
+        System.out.println(tutorController.getCacheStats());
+        System.out.println(groupController.getCacheStats());
+        System.out.println(studyPlanController.getCacheStats());
+    }
+
+    @Benchmark
+    public Task getTaskByTitle(BenchmarkDatabase db) {
+        return taskController.getTaskByTitle(BenchmarkDatabase.taskTitle(db.randomTask()));
+    }
+
+    @Benchmark
+    public List<Task> getTasksDueWithinWeek() {
+        return taskController.getTasksDueWithin(7);
+    }
+
+    @Benchmark
+    public List<Task> getOverdueTasks() {
+        return taskController.getOverdueTasks();
+    }
+
+    @Benchmark
+    public List<Task> getAllTasks() {
+        return taskController.getAllTasks();
+    }
+
+    @Benchmark
+    public Tutor findTutorByName(BenchmarkDatabase db) {
+        return tutorController.findTutorByName(BenchmarkDatabase.tutorName(db.randomTutor()));
+    }
+
+    @Benchmark
+    public List<Tutor> getTutorsByClass(BenchmarkDatabase db) {
+        return tutorController.getTutorsByClass(BenchmarkDatabase.tutorClass(db.randomTutorClass()));
+    }
+
+    @Benchmark
+    public List<String> getUniqueTutorClasses() {
+        return tutorController.getUniqueTutorClasses();
+    }
+
+    @Benchmark
+    public Group getGroup(BenchmarkDatabase db) {
+        return groupController.getGroup(BenchmarkDatabase.groupName(db.randomGroup()));
+    }
+
+    @Benchmark
+    public List<Group> getGroupsForMember(BenchmarkDatabase db) {
+        return groupController.getGroupsForMember(BenchmarkDatabase.studentName(db.randomStudent()));
+    }
+
+    @Benchmark
+    public Map<String, Group> getAllGroups() {
+        return groupController.getAllGroups();
+    }
+
+    @Benchmark
+    public List<StudyPlan> getStudyPlanSummariesForCourse(BenchmarkDatabase db) {
+        return studyPlanController.getStudyPlanSummariesForCourse(BenchmarkDatabase.courseName(db.randomCourse()));
+    }
+
+    @Benchmark
+    public List<StudyPlan> getStudyPlansForCourse(BenchmarkDatabase db) {
+        return studyPlanController.getStudyPlansForCourse(BenchmarkDatabase.courseName(db.randomCourse()));
+    }
+
+    @Benchmark
+    public Map<String, List<StudyPlan>> getAllStudyPlans() {
+        return studyPlanController.getAllStudyPlans();
+    }
+
+    @Benchmark
+    public List<Notification> getUnreadNotifications() {
+        return notificationController.getUnreadNotifications();
+    }
+
+    @Benchmark
+    public int getUnreadNotificationCount() {
+        return notificationController.getUnreadNotificationCount();
+    }
+}
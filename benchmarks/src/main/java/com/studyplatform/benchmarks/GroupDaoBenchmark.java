@@ -0,0 +1,74 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.GroupDAO;
+import com.studyplatform.models.Group;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BaseDAO CRUD, membership changes and member lookups of GroupDAO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class GroupDaoBenchmark {
+    private final GroupDAO groupDAO = new GroupDAO();
+
+    @Benchmark
+    public Group createAndDelete(BenchmarkDatabase db) throws SQLException {
+        Group group = new Group("bench");
+        group.addMember("bench-member");
+        group.uploadFile("bench.pdf");
+        groupDAO.create(group);
+        groupDAO.delete(group.getId());
+        return group;
+    }
+
+    @Benchmark
+    public Group read(BenchmarkDatabase db) throws SQLException {
+        return groupDAO.read(db.randomGroup());
+    }
+
+    // full update rewrites the group row and all of its member and file rows
+    @Benchmark
+    public Group update(BenchmarkDatabase db) throws SQLException {
+        Group group = groupDAO.read(db.randomGroup());
+        groupDAO.update(group);
+        return group;
+    }
+
+    @Benchmark
+    public boolean addAndRemoveMember(BenchmarkDatabase db) throws SQLException {
+        int groupId = db.randomGroup();
+        groupDAO.addMember(groupId, "bench-member");
+        return groupDAO.removeMember(groupId, "bench-member");
+    }
+
+    @Benchmark
+    public List<Group> findAll(BenchmarkDatabase db) throws SQLException {
+        return groupDAO.findAll();
+    }
+
+    @Benchmark
+    public Group findByName(BenchmarkDatabase db) throws SQLException {
+        return groupDAO.findByName(BenchmarkDatabase.groupName(db.randomGroup()));
+    }
+
+    @Benchmark
+    public List<Group> findGroupsByMember(BenchmarkDatabase db) throws SQLException {
+        return groupDAO.findGroupsByMember(BenchmarkDatabase.studentName(db.randomStudent()));
+    }
+}
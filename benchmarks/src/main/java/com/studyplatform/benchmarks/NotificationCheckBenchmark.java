@@ -0,0 +1,79 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.controllers.NotificationController;
+import com.studyplatform.dao.StudyPlanDAO;
+import com.studyplatform.dao.TaskDAO;
+import com.studyplatform.dao.TutorDAO;
+import com.studyplatform.models.Notification;
+import com.studyplatform.util.DatabaseUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// one reminder check cycle: the queue rebuild the scheduler runs after a write,
+// delivering a reminder that already exists, and the unread badge refresh that follows
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class NotificationCheckBenchmark {
+    // same look-ahead as the reminder scheduler
+    private static final int HORIZON_DAYS = 7;
+
+    private final TaskDAO taskDAO = new TaskDAO();
+    private final TutorDAO tutorDAO = new TutorDAO();
+    private final StudyPlanDAO studyPlanDAO = new StudyPlanDAO();
+    private NotificationController notificationController;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkDatabase db) {
+        notificationController = new NotificationController();
+    }
+
+    // the range queries repeat every invocation, so they should be served by the statement cache
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        notificationController.shutdown();
+        System.out.println(DatabaseUtil.getStatementCacheStats());
+    }
+
+    // the three range queries a queue rebuild issues
+    @Benchmark
+    public void rebuildReminderQueue(Blackhole blackhole) throws SQLException {
+        LocalDate today = LocalDate.now();
+        LocalDate horizon = today.plusDays(HORIZON_DAYS);
+        blackhole.consume(taskDAO.findTasksDueBetween(today, horizon));
+        blackhole.consume(tutorDAO.findScheduledTutorsBetween(today, horizon));
+        blackhole.consume(studyPlanDAO.findCourseworkDueBetween(today, horizon));
+    }
+
+    @Benchmark
+    public Notification deliverDuplicateReminder(BenchmarkDatabase db) {
+        return notificationController.createNotificationIfAbsent(
+                "bench", "duplicate reminder", BenchmarkDatabase.dedupKey(db.randomNotification()));
+    }
+
+    @Benchmark
+    public void fullCheckCycle(BenchmarkDatabase db, Blackhole blackhole) throws SQLException {
+        rebuildReminderQueue(blackhole);
+        blackhole.consume(deliverDuplicateReminder(db));
+        blackhole.consume(notificationController.getUnreadNotificationCount());
+    }
+}
@@ -0,0 +1,75 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.NotificationDAO;
+import com.studyplatform.models.Notification;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BaseDAO CRUD and the dedup insert of NotificationDAO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class NotificationDaoBenchmark {
+    private final NotificationDAO notificationDAO = new NotificationDAO();
+
+    @Benchmark
+    public Notification create(BenchmarkDatabase db) throws SQLException {
+        Notification notification = new Notification("bench", "created by benchmark");
+        notificationDAO.create(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification read(BenchmarkDatabase db) throws SQLException {
+        return notificationDAO.read(db.randomNotification());
+    }
+
+    @Benchmark
+    public Notification update(BenchmarkDatabase db) throws SQLException {
+        Notification notification = notificationDAO.read(db.randomNotification());
+        notification.markAsRead();
+        notificationDAO.update(notification);
+        return notification;
+    }
+
+    // delete is a soft delete, so it can run against seeded rows
+    @Benchmark
+    public void delete(BenchmarkDatabase db) throws SQLException {
+        notificationDAO.delete(db.randomNotification());
+    }
+
+    @Benchmark
+    public List<Notification> findAll(BenchmarkDatabase db) throws SQLException {
+        return notificationDAO.findAll();
+    }
+
+    // every row, one at a time, without holding the table in a list
+    @Benchmark
+    public void forEach(BenchmarkDatabase db, Blackhole blackhole) throws SQLException {
+        notificationDAO.forEach(blackhole::consume);
+    }
+
+    // the path every reminder takes once it has already been delivered
+    @Benchmark
+    public boolean createIfAbsentDuplicate(BenchmarkDatabase db) throws SQLException {
+        Notification notification = new Notification("bench", "duplicate reminder");
+        notification.setDedupKey(BenchmarkDatabase.dedupKey(db.randomNotification()));
+        return notificationDAO.createIfAbsent(notification);
+    }
+}
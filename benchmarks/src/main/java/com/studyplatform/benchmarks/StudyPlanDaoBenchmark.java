@@ -0,0 +1,79 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.StudyPlanDAO;
+import com.studyplatform.models.Coursework;
+import com.studyplatform.models.StudyPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BaseDAO CRUD and the per-course loads of StudyPlanDAO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class StudyPlanDaoBenchmark {
+    private final StudyPlanDAO studyPlanDAO = new StudyPlanDAO();
+
+    @Benchmark
+    public StudyPlan createAndDelete(BenchmarkDatabase db) throws SQLException {
+        StudyPlan studyPlan = new StudyPlan(BenchmarkDatabase.courseName(db.randomCourse()), "bench");
+        studyPlan.addCoursework(new Coursework("bench", "created by benchmark", LocalDate.now(), "Not Started"));
+        studyPlanDAO.create(studyPlan);
+        studyPlanDAO.delete(studyPlan.getId());
+        return studyPlan;
+    }
+
+    @Benchmark
+    public StudyPlan read(BenchmarkDatabase db) throws SQLException {
+        return studyPlanDAO.read(db.randomStudyPlan());
+    }
+
+    // update with courseworks loaded but unchanged writes only the plan row
+    @Benchmark
+    public StudyPlan update(BenchmarkDatabase db) throws SQLException {
+        StudyPlan studyPlan = studyPlanDAO.read(db.randomStudyPlan());
+        studyPlanDAO.update(studyPlan);
+        return studyPlan;
+    }
+
+    // one changed coursework costs one coursework UPDATE, whatever the plan's size
+    @Benchmark
+    public StudyPlan updateOneCoursework(BenchmarkDatabase db) throws SQLException {
+        StudyPlan studyPlan = studyPlanDAO.read(db.randomStudyPlan());
+        if (!studyPlan.getCourseworkList().isEmpty()) {
+            studyPlan.getCourseworkList().get(0).setStatus("In Progress");
+        }
+        studyPlanDAO.update(studyPlan);
+        return studyPlan;
+    }
+
+    @Benchmark
+    public List<StudyPlan> findAll(BenchmarkDatabase db) throws SQLException {
+        return studyPlanDAO.findAll();
+    }
+
+    @Benchmark
+    public List<StudyPlan> getStudyPlansForCourse(BenchmarkDatabase db) throws SQLException {
+        return studyPlanDAO.getStudyPlansForCourse(BenchmarkDatabase.courseName(db.randomCourse()), true);
+    }
+
+    @Benchmark
+    public List<StudyPlan> getStudyPlanSummariesForCourse(BenchmarkDatabase db) throws SQLException {
+        return studyPlanDAO.getStudyPlansForCourse(BenchmarkDatabase.courseName(db.randomCourse()), false);
+    }
+}
@@ -0,0 +1,85 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.TaskDAO;
+import com.studyplatform.models.Task;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BaseDAO CRUD and the indexed finders of TaskDAO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class TaskDaoBenchmark {
+    private final TaskDAO taskDAO = new TaskDAO();
+
+    @Benchmark
+    public Task create(BenchmarkDatabase db) throws SQLException {
+        Task task = new Task("bench", "created by benchmark", "Assignment", LocalDate.now(), "Pending");
+        taskDAO.create(task);
+        return task;
+    }
+
+    @Benchmark
+    public Task read(BenchmarkDatabase db) throws SQLException {
+        return taskDAO.read(db.randomTask());
+    }
+
+    @Benchmark
+    public Task update(BenchmarkDatabase db) throws SQLException {
+        Task task = taskDAO.read(db.randomTask());
+        task.setStatus("In Progress");
+        taskDAO.update(task);
+        return task;
+    }
+
+    // delete needs a row to remove, so each op inserts one first
+    @Benchmark
+    public Task createAndDelete(BenchmarkDatabase db) throws SQLException {
+        Task task = create(db);
+        taskDAO.delete(task.getId());
+        return task;
+    }
+
+    @Benchmark
+    public List<Task> findAll(BenchmarkDatabase db) throws SQLException {
+        return taskDAO.findAll();
+    }
+
+    // same rows as findAll, one column and no Task objects
+    @Benchmark
+    public List<String> findTitles(BenchmarkDatabase db) throws SQLException {
+        return taskDAO.findTitles();
+    }
+
+    @Benchmark
+    public Task findByTitle(BenchmarkDatabase db) throws SQLException {
+        return taskDAO.findByTitle(BenchmarkDatabase.taskTitle(db.randomTask()));
+    }
+
+    @Benchmark
+    public List<Task> findTasksDueThisWeek(BenchmarkDatabase db) throws SQLException {
+        LocalDate today = LocalDate.now();
+        return taskDAO.findTasksDueBetween(today, today.plusDays(7));
+    }
+
+    @Benchmark
+    public List<Task> findOverdueTasks(BenchmarkDatabase db) throws SQLException {
+        return taskDAO.findOverdueTasks(LocalDate.now());
+    }
+}
@@ -0,0 +1,77 @@
+package com.studyplatform.benchmarks;
+
+import com.studyplatform.dao.TutorDAO;
+import com.studyplatform.models.Tutor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BaseDAO CRUD and the indexed finders of TutorDAO
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-Dstudyplatform.db.url=jdbc:derby:memory:bench;create=true"})
+public class TutorDaoBenchmark {
+    private final TutorDAO tutorDAO = new TutorDAO();
+
+    @Benchmark
+    public Tutor create(BenchmarkDatabase db) throws SQLException {
+        Tutor tutor = new Tutor("bench", "class-bench", LocalDate.now(), "Library", false);
+        tutorDAO.create(tutor);
+        return tutor;
+    }
+
+    @Benchmark
+    public Tutor read(BenchmarkDatabase db) throws SQLException {
+        return tutorDAO.read(db.randomTutor());
+    }
+
+    @Benchmark
+    public Tutor update(BenchmarkDatabase db) throws SQLException {
+        Tutor tutor = tutorDAO.read(db.randomTutor());
+        tutor.setScheduled(!tutor.isScheduled());
+        tutorDAO.update(tutor);
+        return tutor;
+    }
+
+    @Benchmark
+    public Tutor createAndDelete(BenchmarkDatabase db) throws SQLException {
+        Tutor tutor = create(db);
+        tutorDAO.delete(tutor.getId());
+        return tutor;
+    }
+
+    @Benchmark
+    public List<Tutor> findAll(BenchmarkDatabase db) throws SQLException {
+        return tutorDAO.findAll();
+    }
+
+    @Benchmark
+    public Tutor findByName(BenchmarkDatabase db) throws SQLException {
+        return tutorDAO.findByName(BenchmarkDatabase.tutorName(db.randomTutor()));
+    }
+
+    @Benchmark
+    public List<Tutor> findByClass(BenchmarkDatabase db) throws SQLException {
+        return tutorDAO.findByClass(BenchmarkDatabase.tutorClass(db.randomTutorClass()));
+    }
+
+    @Benchmark
+    public List<String> findDistinctClasses(BenchmarkDatabase db) throws SQLException {
+        return tutorDAO.findDistinctClasses();
+    }
+}